@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a blocking action for each element of an {@link Iterable} on its own thread, with a limit on
+ * the number of actions running at the same time. Virtual threads are used when the runtime
+ * supports them (Java 21 and later), and a pool of platform threads otherwise.
+ */
+final class ConcurrentLoops {
+
+  /** {@code Executors.newVirtualThreadPerTaskExecutor()}, or {@code null} before Java 21. */
+  private static final MethodHandle VIRTUAL_EXECUTOR = findVirtualExecutor();
+
+  private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+  private ConcurrentLoops() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Performs the action for each element, running at most {@code maxConcurrency} actions at the
+   * same time. Elements are submitted in iteration order. When an action fails, no more elements
+   * are submitted, running actions are interrupted, and the failure is rethrown once all threads
+   * have stopped. If iterating the elements fails, the actions already submitted still complete
+   * before that failure is rethrown.
+   *
+   * @param elements elements to process
+   * @param maxConcurrency largest number of actions running at the same time
+   * @param action action to perform for each element
+   * @param <T> the type of the elements
+   * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+   * @throws CancellationException if the calling thread is interrupted while waiting
+   */
+  static <T> void forEach(
+      Iterable<T> elements, int maxConcurrency, ThrowableConsumer<? super T> action) {
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException(
+          "Maximum concurrency must be positive, was: " + maxConcurrency);
+    }
+    var permits = new Semaphore(maxConcurrency);
+    var failure = new AtomicReference<Throwable>();
+    var executor = newExecutor(maxConcurrency);
+    try {
+      try {
+        for (T element : elements) {
+          permits.acquire();
+          if (failure.get() != null) {
+            break;
+          }
+          try {
+            executor.execute(
+                () -> {
+                  try {
+                    action.accept(element);
+                  } catch (Throwable e) {
+                    if (failure.compareAndSet(null, e)) {
+                      executor.shutdownNow();
+                    }
+                  } finally {
+                    permits.release();
+                  }
+                });
+          } catch (RejectedExecutionException e) {
+            // the executor was shut down by a failed action
+            break;
+          }
+        }
+      } catch (RuntimeException | Error e) {
+        // iterating the elements failed: submit nothing more, but wait for submitted actions
+        if (!failure.compareAndSet(null, e)) {
+          failure.get().addSuppressed(e);
+        }
+      }
+      executor.shutdown();
+      while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+        // keep waiting for running actions
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+      var cancellation = new CancellationException("Interrupted while waiting for actions");
+      cancellation.initCause(e);
+      throw cancellation;
+    }
+    rethrow(failure.get());
+  }
+
+  private static void rethrow(Throwable failure) {
+    if (failure == null) {
+      return;
+    }
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    }
+    if (failure instanceof Error) {
+      throw (Error) failure;
+    }
+    throw new RuntimeException(failure);
+  }
+
+  private static ExecutorService newExecutor(int maxConcurrency) {
+    if (VIRTUAL_EXECUTOR != null) {
+      try {
+        return (ExecutorService) VIRTUAL_EXECUTOR.invokeExact();
+      } catch (Throwable e) {
+        // fall back to platform threads
+      }
+    }
+    return Executors.newFixedThreadPool(
+        maxConcurrency,
+        task -> {
+          var thread = new Thread(task, "kotlinize-concurrent-" + THREAD_COUNTER.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  private static MethodHandle findVirtualExecutor() {
+    try {
+      return MethodHandles.publicLookup()
+          .findStatic(
+              Executors.class,
+              "newVirtualThreadPerTaskExecutor",
+              MethodType.methodType(ExecutorService.class));
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+}
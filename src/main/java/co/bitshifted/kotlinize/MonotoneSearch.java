@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize;
+
+import java.util.OptionalLong;
+import java.util.function.LongPredicate;
+
+/**
+ * Searches for the point where a monotone predicate changes from {@code false} to {@code true}. The
+ * predicate must be {@code false} for all values below that point and {@code true} for all values
+ * from it on; the result is unspecified otherwise.
+ */
+final class MonotoneSearch {
+
+  private MonotoneSearch() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Finds the first value from {@code low} (inclusive) to {@code high} (exclusive) for which the
+   * predicate is {@code true}, with a binary search. The predicate is never evaluated for {@code
+   * high}, and is evaluated {@code O(log(high - low))} times.
+   *
+   * @param low smallest value to search
+   * @param high end of the values to search (exclusive)
+   * @param test monotone predicate
+   * @return the first value for which the predicate is {@code true}, or {@code high} if there is
+   *     none
+   */
+  static long firstTrue(long low, long high, LongPredicate test) {
+    while (low < high) {
+      // floor((low + high) / 2) without overflow
+      long mid = (low & high) + ((low ^ high) >> 1);
+      if (test.test(mid)) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Finds the first value not less than {@code from} for which the predicate is {@code true}, with
+   * an exponential search: the distance from {@code from} is doubled until the predicate becomes
+   * {@code true}, and the last interval is then searched with a binary search. The predicate is
+   * evaluated {@code O(log d)} times, where {@code d} is the distance from {@code from} to the
+   * result.
+   *
+   * @param from smallest value to search
+   * @param test monotone predicate
+   * @return the first value for which the predicate is {@code true}, or an empty optional if there
+   *     is none up to {@link Long#MAX_VALUE}
+   */
+  static OptionalLong gallopFirstTrue(long from, LongPredicate test) {
+    if (test.test(from)) {
+      return OptionalLong.of(from);
+    }
+    long low = from;
+    long step = 1;
+    while (low != Long.MAX_VALUE) {
+      long probe = low + step;
+      if (probe < low) {
+        probe = Long.MAX_VALUE;
+      }
+      if (test.test(probe)) {
+        return OptionalLong.of(firstTrue(low + 1, probe, test));
+      }
+      low = probe;
+      step = step > Long.MAX_VALUE / 2 ? Long.MAX_VALUE : step * 2;
+    }
+    return OptionalLong.empty();
+  }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize;
+
+import co.bitshifted.kotlinize.range.Range;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+
+/**
+ * Fork-join tasks which process a range by splitting it recursively in half, until the parts are no
+ * larger than the grain size. Splitting a range takes constant time, so only the leaves do any work
+ * proportional to the number of elements.
+ *
+ * <p>Searches split the indices of the range in the same way. All tasks of a search share the best
+ * index found so far, and tasks which can no longer improve on it stop without testing any more
+ * elements.
+ */
+final class ParallelLoops {
+
+  /** Number of leaf tasks per worker thread created by the default grain size. */
+  private static final int LEAVES_PER_THREAD = 8;
+
+  private ParallelLoops() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Computes the default grain size for a range, so that each worker thread of the pool gets
+   * several leaf tasks. This leaves room for work stealing when the cost of the elements is uneven.
+   *
+   * @param size number of elements in the range
+   * @param pool pool which will run the tasks
+   * @return the grain size
+   */
+  static long defaultGrain(long size, ForkJoinPool pool) {
+    return Math.max(1, size / ((long) pool.getParallelism() * LEAVES_PER_THREAD));
+  }
+
+  /**
+   * Checks that the grain size is positive.
+   *
+   * @param grain grain size to check
+   * @return the grain size
+   * @throws IllegalArgumentException if the grain size is not positive
+   */
+  static long checkGrain(long grain) {
+    if (grain <= 0) {
+      throw new IllegalArgumentException("Grain must be positive, was: " + grain);
+    }
+    return grain;
+  }
+
+  /**
+   * Runs the leaf action for each part of the range, in parallel.
+   *
+   * @param pool pool to run the tasks in
+   * @param range range to process
+   * @param grain largest number of elements in a leaf
+   * @param halves function splitting a range in two halves
+   * @param leaf action processing a part of the range sequentially
+   * @param <R> the type of the range
+   */
+  static <R extends Range<?>> void forEach(
+      ForkJoinPool pool,
+      R range,
+      long grain,
+      Function<R, List<R>> halves,
+      Consumer<? super R> leaf) {
+    pool.invoke(new ForEachTask<>(range, grain, halves, leaf));
+  }
+
+  /**
+   * Reduces each part of the range with the leaf function, in parallel, and combines the partial
+   * results in the order of the parts.
+   *
+   * @param pool pool to run the tasks in
+   * @param range range to process
+   * @param grain largest number of elements in a leaf
+   * @param halves function splitting a range in two halves
+   * @param leaf function reducing a part of the range sequentially
+   * @param combiner associative function combining two partial results
+   * @param <R> the type of the range
+   * @param <V> the type of the result
+   * @return the combined result
+   */
+  static <R extends Range<?>, V> V reduce(
+      ForkJoinPool pool,
+      R range,
+      long grain,
+      Function<R, List<R>> halves,
+      Function<? super R, V> leaf,
+      BinaryOperator<V> combiner) {
+    return pool.invoke(new ReduceTask<>(range, grain, halves, leaf, combiner));
+  }
+
+  /**
+   * Searches the indices from zero to {@code size} (exclusive) in parallel for an index which
+   * passes the test.
+   *
+   * @param pool pool to run the tasks in
+   * @param size number of indices to search
+   * @param grain largest number of indices tested sequentially by one task
+   * @param mode which of the passing indices to find
+   * @param test test to apply to each index
+   * @return the passing index, or {@code -1} if no index passes the test
+   */
+  static long search(ForkJoinPool pool, long size, long grain, Search mode, LongPredicate test) {
+    var found = new AtomicLong(mode.notFound);
+    pool.invoke(new SearchTask(0, size, grain, mode, test, found));
+    return found.get() == mode.notFound ? -1 : found.get();
+  }
+
+  /** Which of the indices passing a test a search looks for. */
+  enum Search {
+
+    /** Any passing index. The search stops as soon as one is found. */
+    ANY(Long.MAX_VALUE) {
+      @Override
+      boolean isSettled(long from, long to, long found) {
+        return found != Long.MAX_VALUE;
+      }
+    },
+
+    /** The lowest passing index. Parts above an index already found are skipped. */
+    FIRST(Long.MAX_VALUE) {
+      @Override
+      boolean isSettled(long from, long to, long found) {
+        return from >= found;
+      }
+    },
+
+    /** The highest passing index. Parts below an index already found are skipped. */
+    LAST(-1) {
+      @Override
+      boolean isSettled(long from, long to, long found) {
+        return found >= to - 1;
+      }
+    };
+
+    /** Value of the shared result before a passing index is found. */
+    private final long notFound;
+
+    Search(long notFound) {
+      this.notFound = notFound;
+    }
+
+    /**
+     * Checks if testing the indices from {@code from} to {@code to} (exclusive) can no longer
+     * change the result.
+     *
+     * @param from first index of the part
+     * @param to end of the part (exclusive)
+     * @param found best index found so far
+     * @return {@code true} if the part can be skipped
+     */
+    abstract boolean isSettled(long from, long to, long found);
+  }
+
+  private static final class ForEachTask<R extends Range<?>> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final R range;
+    private final long grain;
+    private final Function<R, List<R>> halves;
+    private final Consumer<? super R> leaf;
+
+    ForEachTask(R range, long grain, Function<R, List<R>> halves, Consumer<? super R> leaf) {
+      this.range = range;
+      this.grain = grain;
+      this.halves = halves;
+      this.leaf = leaf;
+    }
+
+    @Override
+    protected void compute() {
+      if (range.longCount() <= grain) {
+        leaf.accept(range);
+        return;
+      }
+      var parts = halves.apply(range);
+      invokeAll(
+          new ForEachTask<>(parts.get(0), grain, halves, leaf),
+          new ForEachTask<>(parts.get(1), grain, halves, leaf));
+    }
+  }
+
+  private static final class ReduceTask<R extends Range<?>, V> extends RecursiveTask<V> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final R range;
+    private final long grain;
+    private final Function<R, List<R>> halves;
+    private final Function<? super R, V> leaf;
+    private final BinaryOperator<V> combiner;
+
+    ReduceTask(
+        R range,
+        long grain,
+        Function<R, List<R>> halves,
+        Function<? super R, V> leaf,
+        BinaryOperator<V> combiner) {
+      this.range = range;
+      this.grain = grain;
+      this.halves = halves;
+      this.leaf = leaf;
+      this.combiner = combiner;
+    }
+
+    @Override
+    protected V compute() {
+      if (range.longCount() <= grain) {
+        return leaf.apply(range);
+      }
+      var parts = halves.apply(range);
+      var left = new ReduceTask<>(parts.get(0), grain, halves, leaf, combiner);
+      var right = new ReduceTask<>(parts.get(1), grain, halves, leaf, combiner);
+      left.fork();
+      V rightResult = right.compute();
+      return combiner.apply(left.join(), rightResult);
+    }
+  }
+
+  private static final class SearchTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long from;
+    private final long to;
+    private final long grain;
+    private final Search mode;
+    private final LongPredicate test;
+    private final AtomicLong found;
+
+    SearchTask(long from, long to, long grain, Search mode, LongPredicate test, AtomicLong found) {
+      this.from = from;
+      this.to = to;
+      this.grain = grain;
+      this.mode = mode;
+      this.test = test;
+      this.found = found;
+    }
+
+    @Override
+    protected void compute() {
+      if (mode.isSettled(from, to, found.get())) {
+        return;
+      }
+      if (to - from <= grain) {
+        if (mode == Search.LAST) {
+          for (long i = to - 1; i >= from && !mode.isSettled(from, i + 1, found.get()); i--) {
+            if (test.test(i)) {
+              found.accumulateAndGet(i, Math::max);
+              return;
+            }
+          }
+        } else {
+          for (long i = from; i < to && !mode.isSettled(i, to, found.get()); i++) {
+            if (test.test(i)) {
+              found.accumulateAndGet(i, Math::min);
+              return;
+            }
+          }
+        }
+        return;
+      }
+      long mid = from + (to - from) / 2;
+      invokeAll(
+          new SearchTask(from, mid, grain, mode, test, found),
+          new SearchTask(mid, to, grain, mode, test, found));
+    }
+  }
+}
@@ -8,68 +8,796 @@
 package co.bitshifted.kotlinize;
 
 import co.bitshifted.kotlinize.range.*;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
 
-/** Utility class for creating ranges of various types. */
+/** Utility class for creating ranges of various types and processing them in parallel. */
 public final class Ranges {
 
   private Ranges() {
     // Prevent instantiation
   }
 
+  /** Creates a range of a specific type from its boxed start, end and step values. */
+  @FunctionalInterface
+  private interface RangeFactory {
+    Range<?> create(Object start, Object endInclusive, Object step);
+  }
+
+  /**
+   * Range factory for a boxed element type.
+   *
+   * @param factory function creating the range
+   * @param unitStep step used when no step is given
+   */
+  private record TypedFactory(RangeFactory factory, Object unitStep) {}
+
+  /** Range factories, looked up by the exact class of the start value. */
+  private static final Map<Class<?>, TypedFactory> FACTORIES =
+      Map.of(
+          Byte.class,
+          new TypedFactory((s, e, st) -> new ByteRange((Byte) s, (Byte) e, (Byte) st), (byte) 1),
+          Short.class,
+          new TypedFactory(
+              (s, e, st) -> new ShortRange((Short) s, (Short) e, (Short) st), (short) 1),
+          Integer.class,
+          new TypedFactory((s, e, st) -> new IntRange((Integer) s, (Integer) e, (Integer) st), 1),
+          Long.class,
+          new TypedFactory((s, e, st) -> new LongRange((Long) s, (Long) e, (Long) st), 1L),
+          Character.class,
+          new TypedFactory(
+              (s, e, st) -> new CharRange((Character) s, (Character) e, (Character) st), (char) 1),
+          Double.class,
+          new TypedFactory((s, e, st) -> new DoubleRange((Double) s, (Double) e, (Double) st), 1.0),
+          Float.class,
+          new TypedFactory((s, e, st) -> new FloatRange((Float) s, (Float) e, (Float) st), 1f));
+
   /**
    * Creates a range of the specified type with the given start, end (inclusive), and step values.
+   * The range type is chosen by the class of {@code start}. Prefer the primitive overloads when the
+   * type is known at compile time, as they do not box their arguments.
    *
    * @param start start value of the range
    * @param endInclusive end value of the range (inclusive)
    * @param step step value for the range
    * @return a Range of the specified type
    * @param <T> the type of the range elements
+   * @throws IllegalArgumentException if the type of {@code start} is not supported
    */
+  @SuppressWarnings("unchecked")
   public static <T> Range<T> range(T start, T endInclusive, T step) {
-    var type = start.getClass().getSimpleName();
-
-    switch (type) {
-      case "Byte":
-        return (Range<T>) new ByteRange((Byte) start, (Byte) endInclusive, (Byte) step);
-      case "Short":
-        return (Range<T>) new ShortRange((Short) start, (Short) endInclusive, (Short) step);
-      case "Integer":
-        return (Range<T>) new IntRange((Integer) start, (Integer) endInclusive, (Integer) step);
-      case "Long":
-        return (Range<T>) new LongRange((Long) start, (Long) endInclusive, (Long) step);
-      case "Character":
-        return (Range<T>)
-            new CharRange((Character) start, (Character) endInclusive, (Character) step);
-      default:
-        throw new IllegalArgumentException("Unsupported type: " + type);
-    }
+    return (Range<T>) factoryFor(start).factory().create(start, endInclusive, step);
   }
 
   /**
    * Creates a range of the specified type with the given start and end (inclusive) values. The step
-   * value defaults to 1.
+   * value defaults to 1. The range type is chosen by the class of {@code start}. Prefer the
+   * primitive overloads when the type is known at compile time, as they do not box their arguments.
    *
    * @param start start value of the range
    * @param endInclusive end value of the range (inclusive)
    * @return a Range of the specified type
    * @param <T> the type of the range elements
+   * @throws IllegalArgumentException if the type of {@code start} is not supported
    */
+  @SuppressWarnings("unchecked")
   public static <T> Range<T> range(T start, T endInclusive) {
-    var type = start.getClass().getSimpleName();
-
-    switch (type) {
-      case "Byte":
-        return (Range<T>) new ByteRange((Byte) start, (Byte) endInclusive);
-      case "Short":
-        return (Range<T>) new ShortRange((Short) start, (Short) endInclusive);
-      case "Integer":
-        return (Range<T>) new IntRange((Integer) start, (Integer) endInclusive);
-      case "Long":
-        return (Range<T>) new LongRange((Long) start, (Long) endInclusive);
-      case "Character":
-        return (Range<T>) new CharRange((Character) start, (Character) endInclusive);
-      default:
-        throw new IllegalArgumentException("Unsupported type: " + type);
+    var factory = factoryFor(start);
+    return (Range<T>) factory.factory().create(start, endInclusive, factory.unitStep());
+  }
+
+  private static TypedFactory factoryFor(Object start) {
+    var factory = FACTORIES.get(start.getClass());
+    if (factory == null) {
+      throw new IllegalArgumentException("Unsupported type: " + start.getClass().getSimpleName());
     }
+    return factory;
+  }
+
+  /**
+   * Creates a {@code ByteRange} with the given start and end (inclusive) values and a step of 1.
+   *
+   * @param start start value of the range
+   * @param endInclusive end value of the range (inclusive)
+   * @return a new range
+   */
+  public static ByteRange range(byte start, byte endInclusive) {
+    return new ByteRange(start, endInclusive);
+  }
+
+  /**
+   * Creates a {@code ByteRange} with the given start, end (inclusive) and step values.
+   *
+   * @param start start value of the range
+   * @param endInclusive end value of the range (inclusive)
+   * @param step step value for the range
+   * @return a new range
+   * @throws IllegalArgumentException if {@code step} is not positive
+   */
+  public static ByteRange range(byte start, byte endInclusive, byte step) {
+    return new ByteRange(start, endInclusive, step);
+  }
+
+  /**
+   * Creates a {@code ShortRange} with the given start and end (inclusive) values and a step of 1.
+   *
+   * @param start start value of the range
+   * @param endInclusive end value of the range (inclusive)
+   * @return a new range
+   */
+  public static ShortRange range(short start, short endInclusive) {
+    return new ShortRange(start, endInclusive);
+  }
+
+  /**
+   * Creates a {@code ShortRange} with the given start, end (inclusive) and step values.
+   *
+   * @param start start value of the range
+   * @param endInclusive end value of the range (inclusive)
+   * @param step step value for the range
+   * @return a new range
+   * @throws IllegalArgumentException if {@code step} is not positive
+   */
+  public static ShortRange range(short start, short endInclusive, short step) {
+    return new ShortRange(start, endInclusive, step);
+  }
+
+  /**
+   * Creates a {@code IntRange} with the given start and end (inclusive) values and a step of 1.
+   *
+   * @param start start value of the range
+   * @param endInclusive end value of the range (inclusive)
+   * @return a new range
+   */
+  public static IntRange range(int start, int endInclusive) {
+    return new IntRange(start, endInclusive);
+  }
+
+  /**
+   * Creates a {@code IntRange} with the given start, end (inclusive) and step values.
+   *
+   * @param start start value of the range
+   * @param endInclusive end value of the range (inclusive)
+   * @param step step value for the range
+   * @return a new range
+   * @throws IllegalArgumentException if {@code step} is not positive
+   */
+  public static IntRange range(int start, int endInclusive, int step) {
+    return new IntRange(start, endInclusive, step);
+  }
+
+  /**
+   * Creates a {@code LongRange} with the given start and end (inclusive) values and a step of 1.
+   *
+   * @param start start value of the range
+   * @param endInclusive end value of the range (inclusive)
+   * @return a new range
+   */
+  public static LongRange range(long start, long endInclusive) {
+    return new LongRange(start, endInclusive);
+  }
+
+  /**
+   * Creates a {@code LongRange} with the given start, end (inclusive) and step values.
+   *
+   * @param start start value of the range
+   * @param endInclusive end value of the range (inclusive)
+   * @param step step value for the range
+   * @return a new range
+   * @throws IllegalArgumentException if {@code step} is not positive
+   */
+  public static LongRange range(long start, long endInclusive, long step) {
+    return new LongRange(start, endInclusive, step);
+  }
+
+  /**
+   * Creates a {@code CharRange} with the given start and end (inclusive) values and a step of 1.
+   *
+   * @param start start value of the range
+   * @param endInclusive end value of the range (inclusive)
+   * @return a new range
+   */
+  public static CharRange range(char start, char endInclusive) {
+    return new CharRange(start, endInclusive);
+  }
+
+  /**
+   * Creates a {@code CharRange} with the given start, end (inclusive) and step values.
+   *
+   * @param start start value of the range
+   * @param endInclusive end value of the range (inclusive)
+   * @param step step value for the range
+   * @return a new range
+   * @throws IllegalArgumentException if {@code step} is not positive
+   */
+  public static CharRange range(char start, char endInclusive, char step) {
+    return new CharRange(start, endInclusive, step);
+  }
+
+  /**
+   * Creates a {@code DoubleRange} with the given start, end (inclusive) and step values.
+   *
+   * @param start start value of the range
+   * @param endInclusive end value of the range (inclusive)
+   * @param step step value for the range
+   * @return a new range
+   * @throws IllegalArgumentException if {@code step} is not positive
+   */
+  public static DoubleRange range(double start, double endInclusive, double step) {
+    return new DoubleRange(start, endInclusive, step);
+  }
+
+  /**
+   * Creates a {@code FloatRange} with the given start, end (inclusive) and step values.
+   *
+   * @param start start value of the range
+   * @param endInclusive end value of the range (inclusive)
+   * @param step step value for the range
+   * @return a new range
+   * @throws IllegalArgumentException if {@code step} is not positive
+   */
+  public static FloatRange range(float start, float endInclusive, float step) {
+    return new FloatRange(start, endInclusive, step);
+  }
+
+  /**
+   * Creates an increasing {@code IntRange} from {@code start} up to, but not including, {@code
+   * endExclusive}.
+   *
+   * @param start start value of the range
+   * @param endExclusive end value of the range (exclusive)
+   * @return a new range, or {@link IntRange#EMPTY} if {@code endExclusive} is not greater than
+   *     {@code start}
+   */
+  public static IntRange rangeUntil(int start, int endExclusive) {
+    return endExclusive > start ? new IntRange(start, endExclusive - 1) : IntRange.EMPTY;
+  }
+
+  /**
+   * Creates a decreasing {@code IntRange} from {@code from} down to {@code to} (inclusive), with a
+   * step of 1.
+   *
+   * @param from start value of the range
+   * @param to end value of the range (inclusive)
+   * @return a new range, or {@link IntRange#EMPTY} if {@code to} is greater than {@code from}
+   */
+  public static IntRange downTo(int from, int to) {
+    return IntRange.fromClosedRange(from, to, -1);
+  }
+
+  /**
+   * Creates an increasing {@code LongRange} from {@code start} up to, but not including, {@code
+   * endExclusive}.
+   *
+   * @param start start value of the range
+   * @param endExclusive end value of the range (exclusive)
+   * @return a new range, or {@link LongRange#EMPTY} if {@code endExclusive} is not greater than
+   *     {@code start}
+   */
+  public static LongRange rangeUntil(long start, long endExclusive) {
+    return endExclusive > start ? new LongRange(start, endExclusive - 1) : LongRange.EMPTY;
+  }
+
+  /**
+   * Creates a decreasing {@code LongRange} from {@code from} down to {@code to} (inclusive), with a
+   * step of 1.
+   *
+   * @param from start value of the range
+   * @param to end value of the range (inclusive)
+   * @return a new range, or {@link LongRange#EMPTY} if {@code to} is greater than {@code from}
+   */
+  public static LongRange downTo(long from, long to) {
+    return LongRange.fromClosedRange(from, to, -1);
+  }
+
+  /**
+   * Creates an increasing {@code CharRange} from {@code start} up to, but not including, {@code
+   * endExclusive}.
+   *
+   * @param start start value of the range
+   * @param endExclusive end value of the range (exclusive)
+   * @return a new range, or {@link CharRange#EMPTY} if {@code endExclusive} is not greater than
+   *     {@code start}
+   */
+  public static CharRange rangeUntil(char start, char endExclusive) {
+    return endExclusive > start ? new CharRange(start, (char) (endExclusive - 1)) : CharRange.EMPTY;
+  }
+
+  /**
+   * Creates a decreasing {@code CharRange} from {@code from} down to {@code to} (inclusive), with a
+   * step of 1.
+   *
+   * @param from start value of the range
+   * @param to end value of the range (inclusive)
+   * @return a new range, or {@link CharRange#EMPTY} if {@code to} is greater than {@code from}
+   */
+  public static CharRange downTo(char from, char to) {
+    return CharRange.fromClosedRange(from, to, -1);
+  }
+
+  /**
+   * Performs the given action for each element of the range in parallel, using the common {@link
+   * ForkJoinPool}. The range is split recursively in half until each part is small enough to give
+   * every worker thread several parts. The action may be invoked concurrently from multiple threads
+   * and in no particular order.
+   *
+   * @param range range to process
+   * @param action action to perform for each element
+   */
+  public static void parallelFor(IntRange range, IntConsumer action) {
+    var pool = ForkJoinPool.commonPool();
+    parallelFor(range, pool, ParallelLoops.defaultGrain(range.longCount(), pool), action);
+  }
+
+  /**
+   * Performs the given action for each element of the range in parallel, using the given {@link
+   * ForkJoinPool}. The range is split recursively in half until each part has at most {@code grain}
+   * elements, and each part is then processed sequentially. The action may be invoked concurrently
+   * from multiple threads and in no particular order.
+   *
+   * @param range range to process
+   * @param pool pool to run the loop in
+   * @param grain largest number of elements processed sequentially by one task
+   * @param action action to perform for each element
+   * @throws IllegalArgumentException if {@code grain} is not positive
+   */
+  public static void parallelFor(
+      IntRange range, ForkJoinPool pool, long grain, IntConsumer action) {
+    ParallelLoops.forEach(
+        pool, range, ParallelLoops.checkGrain(grain), r -> r.split(2), r -> r.forEachInt(action));
+  }
+
+  /**
+   * Maps each element of the range and combines the results in parallel, using the common {@link
+   * ForkJoinPool}. Partial results are combined in the order of the elements, so the combiner has
+   * to be associative but not commutative.
+   *
+   * @param range range to process
+   * @param mapper function mapping each element to a value
+   * @param identity identity value of the combiner, returned for an empty range
+   * @param combiner associative function combining two values
+   * @param <V> the type of the result
+   * @return the combined value of all elements
+   */
+  public static <V> V parallelMapReduce(
+      IntRange range, IntFunction<? extends V> mapper, V identity, BinaryOperator<V> combiner) {
+    var pool = ForkJoinPool.commonPool();
+    return parallelMapReduce(
+        range,
+        pool,
+        ParallelLoops.defaultGrain(range.longCount(), pool),
+        mapper,
+        identity,
+        combiner);
+  }
+
+  /**
+   * Maps each element of the range and combines the results in parallel, using the given {@link
+   * ForkJoinPool}. The range is split recursively in half until each part has at most {@code grain}
+   * elements. Partial results are combined in the order of the elements, so the combiner has to be
+   * associative but not commutative.
+   *
+   * @param range range to process
+   * @param pool pool to run the computation in
+   * @param grain largest number of elements processed sequentially by one task
+   * @param mapper function mapping each element to a value
+   * @param identity identity value of the combiner, returned for an empty range
+   * @param combiner associative function combining two values
+   * @param <V> the type of the result
+   * @return the combined value of all elements
+   * @throws IllegalArgumentException if {@code grain} is not positive
+   */
+  public static <V> V parallelMapReduce(
+      IntRange range,
+      ForkJoinPool pool,
+      long grain,
+      IntFunction<? extends V> mapper,
+      V identity,
+      BinaryOperator<V> combiner) {
+    return ParallelLoops.reduce(
+        pool,
+        range,
+        ParallelLoops.checkGrain(grain),
+        r -> r.split(2),
+        r -> {
+          V result = identity;
+          for (var iterator = r.intIterator(); iterator.hasNext(); ) {
+            result = combiner.apply(result, mapper.apply(iterator.nextInt()));
+          }
+          return result;
+        },
+        combiner);
+  }
+
+  /**
+   * Performs the given action for each element of the range in parallel, using the common {@link
+   * ForkJoinPool}. The range is split recursively in half until each part is small enough to give
+   * every worker thread several parts. The action may be invoked concurrently from multiple threads
+   * and in no particular order.
+   *
+   * @param range range to process
+   * @param action action to perform for each element
+   */
+  public static void parallelFor(LongRange range, LongConsumer action) {
+    var pool = ForkJoinPool.commonPool();
+    parallelFor(range, pool, ParallelLoops.defaultGrain(range.longCount(), pool), action);
+  }
+
+  /**
+   * Performs the given action for each element of the range in parallel, using the given {@link
+   * ForkJoinPool}. The range is split recursively in half until each part has at most {@code grain}
+   * elements, and each part is then processed sequentially. The action may be invoked concurrently
+   * from multiple threads and in no particular order.
+   *
+   * @param range range to process
+   * @param pool pool to run the loop in
+   * @param grain largest number of elements processed sequentially by one task
+   * @param action action to perform for each element
+   * @throws IllegalArgumentException if {@code grain} is not positive
+   */
+  public static void parallelFor(
+      LongRange range, ForkJoinPool pool, long grain, LongConsumer action) {
+    ParallelLoops.forEach(
+        pool, range, ParallelLoops.checkGrain(grain), r -> r.split(2), r -> r.forEachLong(action));
+  }
+
+  /**
+   * Maps each element of the range and combines the results in parallel, using the common {@link
+   * ForkJoinPool}. Partial results are combined in the order of the elements, so the combiner has
+   * to be associative but not commutative.
+   *
+   * @param range range to process
+   * @param mapper function mapping each element to a value
+   * @param identity identity value of the combiner, returned for an empty range
+   * @param combiner associative function combining two values
+   * @param <V> the type of the result
+   * @return the combined value of all elements
+   */
+  public static <V> V parallelMapReduce(
+      LongRange range, LongFunction<? extends V> mapper, V identity, BinaryOperator<V> combiner) {
+    var pool = ForkJoinPool.commonPool();
+    return parallelMapReduce(
+        range,
+        pool,
+        ParallelLoops.defaultGrain(range.longCount(), pool),
+        mapper,
+        identity,
+        combiner);
+  }
+
+  /**
+   * Maps each element of the range and combines the results in parallel, using the given {@link
+   * ForkJoinPool}. The range is split recursively in half until each part has at most {@code grain}
+   * elements. Partial results are combined in the order of the elements, so the combiner has to be
+   * associative but not commutative.
+   *
+   * @param range range to process
+   * @param pool pool to run the computation in
+   * @param grain largest number of elements processed sequentially by one task
+   * @param mapper function mapping each element to a value
+   * @param identity identity value of the combiner, returned for an empty range
+   * @param combiner associative function combining two values
+   * @param <V> the type of the result
+   * @return the combined value of all elements
+   * @throws IllegalArgumentException if {@code grain} is not positive
+   */
+  public static <V> V parallelMapReduce(
+      LongRange range,
+      ForkJoinPool pool,
+      long grain,
+      LongFunction<? extends V> mapper,
+      V identity,
+      BinaryOperator<V> combiner) {
+    return ParallelLoops.reduce(
+        pool,
+        range,
+        ParallelLoops.checkGrain(grain),
+        r -> r.split(2),
+        r -> {
+          V result = identity;
+          for (var iterator = r.longIterator(); iterator.hasNext(); ) {
+            result = combiner.apply(result, mapper.apply(iterator.nextLong()));
+          }
+          return result;
+        },
+        combiner);
+  }
+
+  /**
+   * Checks in parallel if any element of the range matches the predicate, using the common {@link
+   * ForkJoinPool}. The range is split recursively in half, and all tasks stop as soon as one of
+   * them finds a matching element, so the predicate may be applied to only some of the elements.
+   * The predicate may be invoked concurrently from multiple threads.
+   *
+   * @param range range to search
+   * @param predicate predicate to test elements against
+   * @return {@code true} if at least one element matches the predicate, {@code false} otherwise
+   */
+  public static boolean parallelAny(IntRange range, IntPredicate predicate) {
+    return search(range, ParallelLoops.Search.ANY, predicate) >= 0;
+  }
+
+  /**
+   * Checks in parallel if all elements of the range match the predicate, using the common {@link
+   * ForkJoinPool}. All tasks stop as soon as one of them finds an element that does not match.
+   *
+   * @param range range to search
+   * @param predicate predicate to test elements against
+   * @return {@code true} if all elements match the predicate, {@code false} otherwise
+   * @see #parallelAny(IntRange, IntPredicate)
+   */
+  public static boolean parallelAll(IntRange range, IntPredicate predicate) {
+    return search(range, ParallelLoops.Search.ANY, predicate.negate()) < 0;
+  }
+
+  /**
+   * Checks in parallel if no element of the range matches the predicate, using the common {@link
+   * ForkJoinPool}. All tasks stop as soon as one of them finds a matching element.
+   *
+   * @param range range to search
+   * @param predicate predicate to test elements against
+   * @return {@code true} if no element matches the predicate, {@code false} otherwise
+   * @see #parallelAny(IntRange, IntPredicate)
+   */
+  public static boolean parallelNone(IntRange range, IntPredicate predicate) {
+    return !parallelAny(range, predicate);
+  }
+
+  /**
+   * Finds in parallel the first element of the range that matches the predicate, using the common
+   * {@link ForkJoinPool}. The result is the matching element with the lowest index, as with a
+   * sequential search. Once a match is found, tasks searching only higher indices stop.
+   *
+   * @param range range to search
+   * @param predicate predicate to test elements against
+   * @return the first matching element, or an empty optional if no element matches
+   */
+  public static OptionalInt parallelFirstMatching(IntRange range, IntPredicate predicate) {
+    long index = search(range, ParallelLoops.Search.FIRST, predicate);
+    return index < 0 ? OptionalInt.empty() : OptionalInt.of(range.intAt(index));
+  }
+
+  /**
+   * Finds in parallel the last element of the range that matches the predicate, using the common
+   * {@link ForkJoinPool}. The result is the matching element with the highest index. Once a match
+   * is found, tasks searching only lower indices stop.
+   *
+   * @param range range to search
+   * @param predicate predicate to test elements against
+   * @return the last matching element, or an empty optional if no element matches
+   */
+  public static OptionalInt parallelLastMatching(IntRange range, IntPredicate predicate) {
+    long index = search(range, ParallelLoops.Search.LAST, predicate);
+    return index < 0 ? OptionalInt.empty() : OptionalInt.of(range.intAt(index));
+  }
+
+  private static long search(IntRange range, ParallelLoops.Search mode, IntPredicate predicate) {
+    var pool = ForkJoinPool.commonPool();
+    long size = range.longCount();
+    return ParallelLoops.search(
+        pool,
+        size,
+        ParallelLoops.defaultGrain(size, pool),
+        mode,
+        index -> predicate.test(range.intAt(index)));
+  }
+
+  /**
+   * Checks in parallel if any element of the range matches the predicate, using the common {@link
+   * ForkJoinPool}. The range is split recursively in half, and all tasks stop as soon as one of
+   * them finds a matching element, so the predicate may be applied to only some of the elements.
+   * The predicate may be invoked concurrently from multiple threads.
+   *
+   * @param range range to search
+   * @param predicate predicate to test elements against
+   * @return {@code true} if at least one element matches the predicate, {@code false} otherwise
+   */
+  public static boolean parallelAny(LongRange range, LongPredicate predicate) {
+    return search(range, ParallelLoops.Search.ANY, predicate) >= 0;
+  }
+
+  /**
+   * Checks in parallel if all elements of the range match the predicate, using the common {@link
+   * ForkJoinPool}. All tasks stop as soon as one of them finds an element that does not match.
+   *
+   * @param range range to search
+   * @param predicate predicate to test elements against
+   * @return {@code true} if all elements match the predicate, {@code false} otherwise
+   * @see #parallelAny(LongRange, LongPredicate)
+   */
+  public static boolean parallelAll(LongRange range, LongPredicate predicate) {
+    return search(range, ParallelLoops.Search.ANY, predicate.negate()) < 0;
+  }
+
+  /**
+   * Checks in parallel if no element of the range matches the predicate, using the common {@link
+   * ForkJoinPool}. All tasks stop as soon as one of them finds a matching element.
+   *
+   * @param range range to search
+   * @param predicate predicate to test elements against
+   * @return {@code true} if no element matches the predicate, {@code false} otherwise
+   * @see #parallelAny(LongRange, LongPredicate)
+   */
+  public static boolean parallelNone(LongRange range, LongPredicate predicate) {
+    return !parallelAny(range, predicate);
+  }
+
+  /**
+   * Finds in parallel the first element of the range that matches the predicate, using the common
+   * {@link ForkJoinPool}. The result is the matching element with the lowest index, as with a
+   * sequential search. Once a match is found, tasks searching only higher indices stop.
+   *
+   * @param range range to search
+   * @param predicate predicate to test elements against
+   * @return the first matching element, or an empty optional if no element matches
+   */
+  public static OptionalLong parallelFirstMatching(LongRange range, LongPredicate predicate) {
+    long index = search(range, ParallelLoops.Search.FIRST, predicate);
+    return index < 0 ? OptionalLong.empty() : OptionalLong.of(range.longAt(index));
+  }
+
+  /**
+   * Finds in parallel the last element of the range that matches the predicate, using the common
+   * {@link ForkJoinPool}. The result is the matching element with the highest index. Once a match
+   * is found, tasks searching only lower indices stop.
+   *
+   * @param range range to search
+   * @param predicate predicate to test elements against
+   * @return the last matching element, or an empty optional if no element matches
+   */
+  public static OptionalLong parallelLastMatching(LongRange range, LongPredicate predicate) {
+    long index = search(range, ParallelLoops.Search.LAST, predicate);
+    return index < 0 ? OptionalLong.empty() : OptionalLong.of(range.longAt(index));
+  }
+
+  private static long search(LongRange range, ParallelLoops.Search mode, LongPredicate predicate) {
+    var pool = ForkJoinPool.commonPool();
+    long size = range.longCount();
+    return ParallelLoops.search(
+        pool,
+        size,
+        ParallelLoops.defaultGrain(size, pool),
+        mode,
+        index -> predicate.test(range.longAt(index)));
+  }
+
+  /**
+   * Finds the first element of the range for which a monotone predicate is {@code true}, with a
+   * binary search over the element indices. The predicate must be {@code false} for a (possibly
+   * empty) leading part of the range, in the order of the range, and {@code true} for the rest. It
+   * is evaluated {@code O(log n)} times, and no elements are stored.
+   *
+   * @param range range to search
+   * @param predicate monotone predicate
+   * @return the first element for which the predicate is {@code true}, or an empty optional if
+   *     there is none
+   */
+  public static OptionalInt firstTrue(IntRange range, IntPredicate predicate) {
+    long size = range.longCount();
+    long index = MonotoneSearch.firstTrue(0, size, i -> predicate.test(range.intAt(i)));
+    return index < size ? OptionalInt.of(range.intAt(index)) : OptionalInt.empty();
+  }
+
+  /**
+   * Finds the last element of the range for which a monotone predicate is {@code true}, with a
+   * binary search over the element indices. The predicate must be {@code true} for a (possibly
+   * empty) leading part of the range, in the order of the range, and {@code false} for the rest. It
+   * is evaluated {@code O(log n)} times, and no elements are stored.
+   *
+   * @param range range to search
+   * @param predicate monotone predicate
+   * @return the last element for which the predicate is {@code true}, or an empty optional if there
+   *     is none
+   */
+  public static OptionalInt lastTrue(IntRange range, IntPredicate predicate) {
+    long index =
+        MonotoneSearch.firstTrue(0, range.longCount(), i -> !predicate.test(range.intAt(i)));
+    return index > 0 ? OptionalInt.of(range.intAt(index - 1)) : OptionalInt.empty();
+  }
+
+  /**
+   * Finds the first element of the range for which a monotone predicate is {@code true}, with a
+   * binary search over the element indices. The predicate must be {@code false} for a (possibly
+   * empty) leading part of the range, in the order of the range, and {@code true} for the rest. It
+   * is evaluated {@code O(log n)} times, and no elements are stored.
+   *
+   * @param range range to search
+   * @param predicate monotone predicate
+   * @return the first element for which the predicate is {@code true}, or an empty optional if
+   *     there is none
+   */
+  public static OptionalLong firstTrue(LongRange range, LongPredicate predicate) {
+    long size = range.longCount();
+    long index = MonotoneSearch.firstTrue(0, size, i -> predicate.test(range.longAt(i)));
+    return index < size ? OptionalLong.of(range.longAt(index)) : OptionalLong.empty();
+  }
+
+  /**
+   * Finds the last element of the range for which a monotone predicate is {@code true}, with a
+   * binary search over the element indices. The predicate must be {@code true} for a (possibly
+   * empty) leading part of the range, in the order of the range, and {@code false} for the rest. It
+   * is evaluated {@code O(log n)} times, and no elements are stored.
+   *
+   * @param range range to search
+   * @param predicate monotone predicate
+   * @return the last element for which the predicate is {@code true}, or an empty optional if there
+   *     is none
+   */
+  public static OptionalLong lastTrue(LongRange range, LongPredicate predicate) {
+    long index =
+        MonotoneSearch.firstTrue(0, range.longCount(), i -> !predicate.test(range.longAt(i)));
+    return index > 0 ? OptionalLong.of(range.longAt(index - 1)) : OptionalLong.empty();
+  }
+
+  /**
+   * Finds the first value not less than {@code from} for which a monotone predicate is {@code
+   * true}, when there is no known upper bound. The predicate must be {@code false} for values below
+   * some threshold and {@code true} from it on. The distance from {@code from} is doubled until the
+   * predicate becomes {@code true}, and the last interval is then searched with a binary search, so
+   * the predicate is evaluated {@code O(log d)} times, where {@code d} is the distance from {@code
+   * from} to the result.
+   *
+   * @param from smallest value to search
+   * @param predicate monotone predicate
+   * @return the first value for which the predicate is {@code true}, or an empty optional if there
+   *     is none up to {@link Long#MAX_VALUE}
+   */
+  public static OptionalLong firstTrueFrom(long from, LongPredicate predicate) {
+    return MonotoneSearch.gallopFirstTrue(from, predicate);
+  }
+
+  /**
+   * Finds the last value not less than {@code from} for which a monotone predicate is {@code true},
+   * when there is no known upper bound, such as the largest batch size that fits in a budget. The
+   * predicate must be {@code true} for values up to some threshold and {@code false} after it. The
+   * search gallops like {@link #firstTrueFrom(long, LongPredicate)}.
+   *
+   * @param from smallest value to search
+   * @param predicate monotone predicate
+   * @return the last value for which the predicate is {@code true}, or an empty optional if it is
+   *     not {@code true} for {@code from}
+   */
+  public static OptionalLong lastTrueFrom(long from, LongPredicate predicate) {
+    if (!predicate.test(from)) {
+      return OptionalLong.empty();
+    }
+    if (from == Long.MAX_VALUE) {
+      return OptionalLong.of(from);
+    }
+    var firstFalse = MonotoneSearch.gallopFirstTrue(from + 1, predicate.negate());
+    return OptionalLong.of(firstFalse.isPresent() ? firstFalse.getAsLong() - 1 : Long.MAX_VALUE);
+  }
+
+  /**
+   * Performs the given action for each element of the range on a separate thread, with at most
+   * {@code maxConcurrency} actions running at the same time. This is meant for blocking, I/O-bound
+   * actions: each element runs on a virtual thread on Java 21 and later, and on a pool of {@code
+   * maxConcurrency} platform threads on earlier runtimes. The method returns when all actions have
+   * completed.
+   *
+   * <p>If an action fails, no more elements are started, running actions are interrupted, and the
+   * first failure is rethrown. Unchecked exceptions and errors are rethrown as they are, and
+   * checked exceptions are wrapped in a {@link RuntimeException}.
+   *
+   * @param range range to process
+   * @param maxConcurrency largest number of actions running at the same time
+   * @param action action to perform for each element
+   * @param <T> the type of the range elements
+   * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+   * @throws java.util.concurrent.CancellationException if the calling thread is interrupted while
+   *     waiting for the actions
+   */
+  public static <T> void forEachConcurrent(
+      Range<T> range, int maxConcurrency, ThrowableConsumer<? super T> action) {
+    ConcurrentLoops.forEach(range, maxConcurrency, action);
   }
 }
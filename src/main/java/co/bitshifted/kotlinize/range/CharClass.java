@@ -0,0 +1,336 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable set of {@code char} values, such as the characters allowed in an identifier. A class
+ * is built from character ranges and combined with other classes by union, intersection and
+ * complement.
+ *
+ * <p>The characters are stored as a sorted table of disjoint intervals. Membership of the 128 ASCII
+ * characters is also precomputed into a 128-bit bitmap, so {@link #matches(char)} tests an ASCII
+ * character with a single bit lookup and only falls back to a binary search of the interval table
+ * for other characters. Bulk scans over a {@link CharSequence} do not allocate, which makes the
+ * class suitable for the inner loops of tokenizers.
+ */
+public final class CharClass {
+
+  /** A class that matches no characters. */
+  public static final CharClass EMPTY = new CharClass(new char[0], new char[0]);
+
+  /** A class that matches every character. */
+  public static final CharClass ALL =
+      new CharClass(new char[] {Character.MIN_VALUE}, new char[] {Character.MAX_VALUE});
+
+  /** Smallest character of each interval, in ascending order. */
+  private final char[] starts;
+
+  /** Largest character of each interval. */
+  private final char[] ends;
+
+  /** Membership of the ASCII characters, 64 characters per word. */
+  private final long[] ascii = new long[2];
+
+  private CharClass(char[] starts, char[] ends) {
+    this.starts = starts;
+    this.ends = ends;
+    for (int i = 0; i < starts.length && starts[i] < 128; i++) {
+      for (int c = starts[i]; c <= Math.min(ends[i], 127); c++) {
+        ascii[c >>> 6] |= 1L << c;
+      }
+    }
+  }
+
+  /**
+   * Creates a class matching all elements of the given ranges. Ranges with a step other than 1 add
+   * each of their elements separately.
+   *
+   * @param ranges ranges whose elements the class matches
+   * @return a new class
+   */
+  public static CharClass of(CharRange... ranges) {
+    var builder = new IntervalBuilder(ranges.length);
+    for (var range : ranges) {
+      var bounds = range.bounds();
+      if (bounds == null) {
+        continue;
+      }
+      if (bounds.step() == 1 || bounds.isSingleton()) {
+        builder.add((char) bounds.min(), (char) bounds.max());
+      } else {
+        for (long c = bounds.min(); c <= bounds.max(); c += bounds.step()) {
+          builder.add((char) c, (char) c);
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a class matching the given characters.
+   *
+   * @param chars characters the class matches
+   * @return a new class
+   */
+  public static CharClass ofChars(char... chars) {
+    var builder = new IntervalBuilder(chars.length);
+    for (char c : chars) {
+      builder.add(c, c);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Checks if the class contains the given character. ASCII characters are looked up in the
+   * precomputed bitmap; other characters are found by binary search of the interval table.
+   *
+   * @param c character to check
+   * @return {@code true} if the class contains the character, {@code false} otherwise
+   */
+  public boolean matches(char c) {
+    if (c < 128) {
+      return (ascii[c >>> 6] >>> c & 1L) != 0;
+    }
+    int low = 0;
+    int high = starts.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (starts[mid] <= c) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return high >= 0 && ends[high] >= c;
+  }
+
+  /**
+   * Returns the index of the first character at or after {@code from} that the class contains. A
+   * negative {@code from} is treated as zero, as in {@link String#indexOf(int, int)}.
+   *
+   * @param text text to scan
+   * @param from index to start from
+   * @return index of the first matching character, or {@code -1} if there is none
+   */
+  public int indexOfFirstIn(CharSequence text, int from) {
+    for (int i = Math.max(from, 0), length = text.length(); i < length; i++) {
+      if (matches(text.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the first character at or after {@code from} that the class does not
+   * contain. This is the end of a token made only of characters of this class. A negative {@code
+   * from} is treated as zero, as in {@link String#indexOf(int, int)}.
+   *
+   * @param text text to scan
+   * @param from index to start from
+   * @return index of the first character that does not match, or {@code -1} if there is none
+   */
+  public int indexOfFirstNotIn(CharSequence text, int from) {
+    for (int i = Math.max(from, 0), length = text.length(); i < length; i++) {
+      if (!matches(text.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Checks if the class contains every character of the given text.
+   *
+   * @param text text to check
+   * @return {@code true} if all characters match, {@code false} otherwise
+   */
+  public boolean matchesAll(CharSequence text) {
+    return indexOfFirstNotIn(text, 0) < 0;
+  }
+
+  /**
+   * Returns a class matching the characters of either this class or the other one.
+   *
+   * @param other class to combine with
+   * @return a new class
+   */
+  public CharClass union(CharClass other) {
+    var builder = new IntervalBuilder(starts.length + other.starts.length);
+    int i = 0;
+    int j = 0;
+    while (i < starts.length || j < other.starts.length) {
+      if (j >= other.starts.length || i < starts.length && starts[i] <= other.starts[j]) {
+        builder.add(starts[i], ends[i++]);
+      } else {
+        builder.add(other.starts[j], other.ends[j++]);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns a class matching the characters of this class and the elements of the given ranges.
+   *
+   * @param ranges ranges to add
+   * @return a new class
+   */
+  public CharClass union(CharRange... ranges) {
+    return union(of(ranges));
+  }
+
+  /**
+   * Returns a class matching the characters contained in both this class and the other one.
+   *
+   * @param other class to intersect with
+   * @return a new class
+   */
+  public CharClass intersect(CharClass other) {
+    var builder = new IntervalBuilder(starts.length + other.starts.length);
+    int i = 0;
+    int j = 0;
+    while (i < starts.length && j < other.starts.length) {
+      char start = (char) Math.max(starts[i], other.starts[j]);
+      char end = (char) Math.min(ends[i], other.ends[j]);
+      if (start <= end) {
+        builder.add(start, end);
+      }
+      if (ends[i] < other.ends[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns a class matching the characters of this class that the other class does not contain.
+   *
+   * @param other class whose characters to remove
+   * @return a new class
+   */
+  public CharClass minus(CharClass other) {
+    return intersect(other.complement());
+  }
+
+  /**
+   * Returns a class matching every character that this class does not contain.
+   *
+   * @return a new class
+   */
+  public CharClass complement() {
+    var builder = new IntervalBuilder(starts.length + 1);
+    int next = Character.MIN_VALUE;
+    for (int i = 0; i < starts.length; i++) {
+      if (starts[i] > next) {
+        builder.add((char) next, (char) (starts[i] - 1));
+      }
+      next = ends[i] + 1;
+    }
+    if (next <= Character.MAX_VALUE) {
+      builder.add((char) next, Character.MAX_VALUE);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Checks if the class matches no characters.
+   *
+   * @return {@code true} if the class is empty, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return starts.length == 0;
+  }
+
+  /**
+   * Returns the number of characters in the class.
+   *
+   * @return the number of characters
+   */
+  public int cardinality() {
+    int total = 0;
+    for (int i = 0; i < starts.length; i++) {
+      total += ends[i] - starts[i] + 1;
+    }
+    return total;
+  }
+
+  /**
+   * Returns the disjoint intervals of the class as ranges, in ascending order.
+   *
+   * @return a list of increasing ranges with a step of 1
+   */
+  public List<CharRange> asRanges() {
+    List<CharRange> ranges = new ArrayList<>(starts.length);
+    for (int i = 0; i < starts.length; i++) {
+      ranges.add(new CharRange(starts[i], ends[i]));
+    }
+    return ranges;
+  }
+
+  /**
+   * Collects intervals and merges overlapping and adjacent ones. Intervals added in ascending order
+   * of their start are merged in a single pass; otherwise they are sorted when the class is built.
+   */
+  private static final class IntervalBuilder {
+
+    private char[] starts;
+    private char[] ends;
+    private int count;
+    private boolean sorted = true;
+
+    IntervalBuilder(int capacity) {
+      this.starts = new char[Math.max(capacity, 1)];
+      this.ends = new char[starts.length];
+    }
+
+    void add(char start, char end) {
+      if (count > 0 && start < starts[count - 1]) {
+        sorted = false;
+      }
+      if (sorted && count > 0 && start <= ends[count - 1] + 1) {
+        ends[count - 1] = (char) Math.max(ends[count - 1], end);
+        return;
+      }
+      if (count == starts.length) {
+        starts = Arrays.copyOf(starts, count * 2);
+        ends = Arrays.copyOf(ends, count * 2);
+      }
+      starts[count] = start;
+      ends[count++] = end;
+    }
+
+    CharClass build() {
+      if (!sorted) {
+        sortAndMerge();
+      }
+      return count == 0
+          ? EMPTY
+          : new CharClass(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+    }
+
+    /** Sorts the intervals by start, packing each one into a {@code long}, and merges them. */
+    private void sortAndMerge() {
+      long[] packed = new long[count];
+      for (int i = 0; i < count; i++) {
+        packed[i] = (long) starts[i] << 16 | ends[i];
+      }
+      Arrays.sort(packed);
+      count = 0;
+      sorted = true;
+      for (long interval : packed) {
+        add((char) (interval >>> 16), (char) interval);
+      }
+    }
+  }
+}
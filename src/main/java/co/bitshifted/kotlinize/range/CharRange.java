@@ -7,12 +7,76 @@
  */
 package co.bitshifted.kotlinize.range;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
  * A range of {@code char} values. This class represents a sequence of characters from a start value
  * to an end value (inclusive).
  */
 public final class CharRange extends Range<Character> {
 
+  /** The first element of the range. */
+  private final int origin;
+
+  /** An empty {@code CharRange}. */
+  public static final CharRange EMPTY = new CharRange('b', 'a', (char) 1, 0);
+
+  /** Signed difference between two consecutive elements. */
+  private final int delta;
+
+  private CharRange(char start, char endInclusive, char step, long size) {
+    super(start, endInclusive, step, size);
+    this.origin = start;
+    this.delta = start > endInclusive ? -step : step;
+  }
+
+  /**
+   * Creates a range from its first element, signed step and number of elements. The arguments are
+   * not checked, so the caller must make sure that all elements fit in {@code char}.
+   *
+   * @param first first element of the range
+   * @param delta signed difference between two consecutive elements
+   * @param size number of elements in the range
+   * @return a new range, or {@link #EMPTY} if {@code size} is zero
+   */
+  static CharRange of(char first, int delta, long size) {
+    if (size == 0) {
+      return EMPTY;
+    }
+    long last = first + (size - 1) * delta;
+    return new CharRange(
+        first,
+        (char) Progressions.end(last, delta, Character.MIN_VALUE),
+        (char) Math.abs(delta),
+        size);
+  }
+
+  /**
+   * Creates a range from its first element, signed step, number of elements and end value. The
+   * arguments are not checked, so the caller must make sure that all elements fit in {@code char}
+   * and that {@code end} is less than {@code first} exactly when the range is decreasing.
+   *
+   * @param first first element of the range
+   * @param delta signed difference between two consecutive elements
+   * @param size number of elements in the range
+   * @param end end value of the range
+   * @return a new range, or {@link #EMPTY} if {@code size} is zero
+   */
+  static CharRange of(char first, int delta, long size, char end) {
+    return size == 0 ? EMPTY : new CharRange(first, end, (char) Math.abs(delta), size);
+  }
+
   /**
    * Creates a new {@code CharRange} with a specified step. The range includes all values from
    * {@code start} to {@code endInclusive}. If {@code start} is greater than {@code endInclusive},
@@ -21,19 +85,10 @@ public final class CharRange extends Range<Character> {
    * @param start the starting value of the range
    * @param endInclusive the ending value of the range (inclusive)
    * @param step the step between each value in the range
+   * @throws IllegalArgumentException if {@code step} is not positive
    */
   public CharRange(char start, char endInclusive, char step) {
-    super(start, endInclusive, step);
-    var decreasing = start > endInclusive;
-    char current = start;
-    while (!decreasing && current <= endInclusive) {
-      elements.add(current);
-      current += step;
-    }
-    while (decreasing && current > endInclusive) {
-      elements.add(current);
-      current -= step;
-    }
+    this(start, endInclusive, step, Progressions.size(start, endInclusive, step));
   }
 
   /**
@@ -47,4 +102,357 @@ public final class CharRange extends Range<Character> {
   public CharRange(char start, char endInclusive) {
     this(start, endInclusive, (char) 1);
   }
+
+  /**
+   * Creates a range which goes from {@code first} towards {@code last} by a signed step. Unlike the
+   * constructors, the bound is inclusive in both directions: {@code fromClosedRange(10, 1, -1)}
+   * contains the values from 10 down to 1. The range is empty if the step points away from {@code
+   * last}, and its last element is the last one which does not go past {@code last}.
+   *
+   * @param first the first element of the range
+   * @param last the bound of the range (inclusive)
+   * @param step the signed difference between two consecutive elements
+   * @return a new range
+   * @throws IllegalArgumentException if {@code step} is zero or out of range
+   */
+  public static CharRange fromClosedRange(char first, char last, int step) {
+    if (step < -Character.MAX_VALUE || step > Character.MAX_VALUE) {
+      throw new IllegalArgumentException("Step is out of range: " + step);
+    }
+    return of(first, step, Progressions.closedSize(first, last, step));
+  }
+
+  /**
+   * Returns a primitive iterator over the elements in the range. Unlike {@link #iterator()}, the
+   * returned iterator does not box the values. Values are widened to {@code int}.
+   *
+   * @return a {@link PrimitiveIterator.OfInt} for the range elements
+   */
+  public PrimitiveIterator.OfInt intIterator() {
+    return new IntProgressionIterator(origin, delta, size);
+  }
+
+  /**
+   * Performs the given action for each element of the range, without boxing the values.
+   *
+   * @param action the action to perform on each element
+   */
+  public void forEachInt(IntConsumer action) {
+    int value = origin;
+    for (long i = 0; i < size; i++) {
+      action.accept(value);
+      value += delta;
+    }
+  }
+
+  /**
+   * Checks if any element in the range matches the given predicate, without boxing the values.
+   *
+   * @param predicate the predicate to test elements against
+   * @return {@code true} if at least one element matches the predicate, {@code false} otherwise
+   */
+  public boolean anyInt(IntPredicate predicate) {
+    int value = origin;
+    for (long i = 0; i < size; i++) {
+      if (predicate.test(value)) {
+        return true;
+      }
+      value += delta;
+    }
+    return false;
+  }
+
+  /**
+   * Checks if all elements in the range match the given predicate, without boxing the values.
+   *
+   * @param predicate the predicate to test elements against
+   * @return {@code true} if all elements match the predicate, {@code false} otherwise
+   */
+  public boolean allInt(IntPredicate predicate) {
+    int value = origin;
+    for (long i = 0; i < size; i++) {
+      if (!predicate.test(value)) {
+        return false;
+      }
+      value += delta;
+    }
+    return true;
+  }
+
+  /**
+   * Returns a primitive spliterator over the elements in the range. The spliterator knows its exact
+   * size and splits the range exactly in half by index. Values are widened to {@code int}.
+   *
+   * @return a {@link Spliterator.OfInt} for the range elements
+   */
+  public Spliterator.OfInt intSpliterator() {
+    return new IntProgressionSpliterator(origin, delta, 0, size);
+  }
+
+  /**
+   * Returns a sequential {@link IntStream} of the range elements. Values are widened to {@code
+   * int}.
+   *
+   * @return a sequential stream of the range elements
+   */
+  public IntStream intStream() {
+    return StreamSupport.intStream(intSpliterator(), false);
+  }
+
+  /**
+   * Returns a parallel {@link IntStream} of the range elements. Values are widened to {@code int}.
+   *
+   * @return a parallel stream of the range elements
+   */
+  public IntStream parallelIntStream() {
+    return StreamSupport.intStream(intSpliterator(), true);
+  }
+
+  /**
+   * Returns the elements of the range as a new array.
+   *
+   * @return an array of the range elements, in iteration order
+   */
+  public char[] toCharArray() {
+    var array = new char[count()];
+    int value = origin;
+    for (int i = 0; i < array.length; i++) {
+      array[i] = (char) value;
+      value += delta;
+    }
+    return array;
+  }
+
+  /**
+   * Checks if the range contains the specified value. The check takes constant time regardless of
+   * the range size.
+   *
+   * @param value the value to check for
+   * @return {@code true} if the value is in the range, {@code false} otherwise
+   */
+  public boolean contains(char value) {
+    return indexOf(value) >= 0;
+  }
+
+  /**
+   * Returns the index of the specified value in the range. The index is computed from the range
+   * bounds and step, without iterating over the elements.
+   *
+   * @param value the value to look for
+   * @return the zero-based index of the value, or {@code -1} if the range does not contain it
+   */
+  public long indexOf(char value) {
+    return Progressions.indexOf(origin, delta, size, value);
+  }
+
+  @Override
+  public long indexOf(Character value) {
+    return value == null ? -1 : indexOf(value.charValue());
+  }
+
+  /**
+   * Returns the element at the specified index, without boxing it.
+   *
+   * @param index zero-based index of the element
+   * @return the element at the given index
+   * @throws IndexOutOfBoundsException if the index is negative or not less than {@link
+   *     #longCount()}
+   */
+  public char charAt(long index) {
+    Objects.checkIndex(index, size);
+    return (char) (origin + (int) index * delta);
+  }
+
+  /**
+   * Returns the smallest element in the range.
+   *
+   * @return the smallest element
+   * @throws NoSuchElementException if the range is empty
+   */
+  public char min() {
+    if (size == 0) {
+      throw new NoSuchElementException("Range is empty");
+    }
+    return (char) (delta > 0 ? origin : origin + (int) (size - 1) * delta);
+  }
+
+  /**
+   * Returns the largest element in the range.
+   *
+   * @return the largest element
+   * @throws NoSuchElementException if the range is empty
+   */
+  public char max() {
+    if (size == 0) {
+      throw new NoSuchElementException("Range is empty");
+    }
+    return (char) (delta > 0 ? origin + (int) (size - 1) * delta : origin);
+  }
+
+  /**
+   * Returns a view of this range with the elements in reverse order. The view is created in
+   * constant time and shares the arithmetic of this range.
+   *
+   * @return a range with the same elements in reverse order
+   */
+  public CharRange reversed() {
+    return size == 0 ? EMPTY : of((char) (origin + (size - 1) * delta), -delta, size);
+  }
+
+  /**
+   * Returns a view of this range with a different step. The view starts at the first element of
+   * this range, keeps its direction and does not go past its last element. For example, {@code new
+   * CharRange('a', 'h').step(3)} contains the elements a, d and g. A step longer than the range
+   * gives a view with only the first element.
+   *
+   * @param newStep the new step, must be positive
+   * @return a range with the given step
+   * @throws IllegalArgumentException if {@code newStep} is not positive
+   */
+  public CharRange step(int newStep) {
+    if (newStep <= 0) {
+      throw new IllegalArgumentException("Step must be positive, was: " + newStep);
+    }
+    if (size == 0) {
+      return EMPTY;
+    }
+    int signed = delta < 0 ? -newStep : newStep;
+    long newSize = Progressions.closedSize(origin, (char) (origin + (size - 1) * delta), signed);
+    // a step longer than the range only keeps the first element, so it can be clamped to fit a char
+    int clamped = Math.min(newStep, Character.MAX_VALUE);
+    return of((char) origin, delta < 0 ? -clamped : clamped, newSize);
+  }
+
+  /**
+   * Returns a view of the leading elements of this range which come before {@code bound} in the
+   * direction of the range: the elements less than {@code bound} for an increasing range, and the
+   * elements greater than {@code bound} for a decreasing one.
+   *
+   * @param bound the bound to stop at (exclusive)
+   * @return a prefix of this range
+   */
+  public CharRange until(char bound) {
+    return slice(0, Progressions.countBefore(origin, delta, size, bound));
+  }
+
+  /**
+   * Returns the elements that are in both this range and {@code other}. The result is computed from
+   * the bounds and steps of both ranges and keeps the direction of this range. If the steps differ,
+   * the result is stepped by their least common multiple.
+   *
+   * @param other the range to intersect with
+   * @return the common elements, or {@link #EMPTY} if there are none
+   * @throws ArithmeticException if the step of the result is out of range for {@code char}
+   */
+  public CharRange intersect(CharRange other) {
+    return fromBounds(Progressions.intersect(bounds(), other.bounds()));
+  }
+
+  /**
+   * Checks if this range and {@code other} have at least one element in common.
+   *
+   * @param other the range to check
+   * @return {@code true} if the ranges share an element, {@code false} otherwise
+   */
+  public boolean overlaps(CharRange other) {
+    return Progressions.intersect(bounds(), other.bounds()) != null;
+  }
+
+  /**
+   * Returns the elements of this range that are not in {@code other}, as a list of ranges in the
+   * direction of this range. Removing a block of consecutive elements leaves at most two ranges. If
+   * {@code other} removes every n-th element instead, the elements kept between the removed ones
+   * are returned either as one range for each of the {@code n - 1} positions between two removed
+   * elements, or as one range for each gap between them, whichever gives fewer ranges.
+   *
+   * @param other the range to subtract
+   * @return the remaining elements, as a list of ranges
+   * @throws IllegalArgumentException if the result would have more than 1048576 ranges
+   */
+  public List<CharRange> subtract(CharRange other) {
+    var parts = Progressions.subtract(bounds(), other.bounds());
+    List<CharRange> result = new ArrayList<>(parts.size());
+    for (var part : parts) {
+      result.add(fromBounds(part));
+    }
+    if (delta < 0) {
+      Collections.reverse(result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the union of this range and {@code other}, if the union is itself a range. This is the
+   * case when one range contains the other, or when both have the same step, are aligned to each
+   * other and overlap or are adjacent. The result keeps the direction of this range.
+   *
+   * @param other the range to merge with
+   * @return the union of the ranges, or an empty {@link Optional} if it is not a single range
+   */
+  public Optional<CharRange> unionIfContiguous(CharRange other) {
+    if (isEmpty()) {
+      return Optional.of(other);
+    }
+    if (other.isEmpty()) {
+      return Optional.of(this);
+    }
+    var union = Progressions.union(bounds(), other.bounds());
+    return union == null ? Optional.empty() : Optional.of(fromBounds(union));
+  }
+
+  @Override
+  public List<CharRange> chunked(long size) {
+    return RangeSlices.chunked(this.size, size, this::slice);
+  }
+
+  @Override
+  public List<CharRange> split(int parts) {
+    return RangeSlices.split(size, parts, this::slice);
+  }
+
+  /**
+   * Creates a sub-range from a half-open interval of element indices, with the same step and
+   * direction as this range.
+   *
+   * @param fromIndex index of the first element (inclusive)
+   * @param toIndex index of the last element (exclusive)
+   * @return the sub-range
+   */
+  private CharRange slice(long fromIndex, long toIndex) {
+    if (fromIndex >= toIndex) {
+      return EMPTY;
+    }
+    char first = (char) (origin + (int) fromIndex * delta);
+    return of(first, delta, toIndex - fromIndex);
+  }
+
+  /**
+   * Returns the normalized form of this range.
+   *
+   * @return normalized progression, or {@code null} if the range is empty
+   */
+  Progressions.Bounds bounds() {
+    return Progressions.Bounds.of(origin, delta, size);
+  }
+
+  /**
+   * Creates a range from a normalized progression, in the direction of this range.
+   *
+   * @param bounds normalized progression, or {@code null} for an empty range
+   * @return a new range
+   */
+  private CharRange fromBounds(Progressions.Bounds bounds) {
+    if (bounds == null) {
+      return EMPTY;
+    }
+    var step = (char) Progressions.checkStep(bounds, Math.abs(delta), Character.MAX_VALUE);
+    var min = (char) bounds.min();
+    var max = (char) bounds.max();
+    return delta > 0 ? of(min, step, bounds.size()) : of(max, -step, bounds.size());
+  }
+
+  @Override
+  Character valueAt(long index) {
+    return (char) (origin + (int) index * delta);
+  }
 }
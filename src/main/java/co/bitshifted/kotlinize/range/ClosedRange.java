@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A range of values of any ordered type, from a start value to an end value (inclusive). Unlike
+ * {@link Range}, a {@code ClosedRange} is not a progression and cannot be iterated: it only knows
+ * its bounds, so it works for types such as {@link java.math.BigDecimal}, {@link String} or version
+ * numbers. All operations take a constant number of comparisons.
+ *
+ * <p>Values are compared with the comparator of the range. Ranges created without a comparator use
+ * the natural ordering of the values and call {@link Comparable#compareTo(Object)} directly.
+ *
+ * @param <T> the type of the range bounds
+ * @see OpenEndRange
+ */
+public final class ClosedRange<T> {
+
+  private final T start;
+  private final T endInclusive;
+
+  /** Comparator of the values, or {@code null} for the natural ordering. */
+  private final Comparator<? super T> comparator;
+
+  private ClosedRange(T start, T endInclusive, Comparator<? super T> comparator) {
+    this.start = Objects.requireNonNull(start);
+    this.endInclusive = Objects.requireNonNull(endInclusive);
+    this.comparator = comparator;
+  }
+
+  /**
+   * Creates a range of values ordered by their natural ordering. The range is empty if {@code
+   * start} is greater than {@code endInclusive}.
+   *
+   * @param start the start value of the range
+   * @param endInclusive the end value of the range (inclusive)
+   * @param <T> the type of the range bounds
+   * @return a new range
+   */
+  public static <T extends Comparable<? super T>> ClosedRange<T> of(T start, T endInclusive) {
+    return new ClosedRange<>(start, endInclusive, null);
+  }
+
+  /**
+   * Creates a range of values ordered by the given comparator. The range is empty if {@code start}
+   * is greater than {@code endInclusive}.
+   *
+   * @param start the start value of the range
+   * @param endInclusive the end value of the range (inclusive)
+   * @param comparator the comparator ordering the values
+   * @param <T> the type of the range bounds
+   * @return a new range
+   */
+  public static <T> ClosedRange<T> of(T start, T endInclusive, Comparator<? super T> comparator) {
+    return new ClosedRange<>(start, endInclusive, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Gets the start value of the range.
+   *
+   * @return the start value
+   */
+  public T start() {
+    return start;
+  }
+
+  /**
+   * Gets the end value of the range.
+   *
+   * @return the end value (inclusive)
+   */
+  public T endInclusive() {
+    return endInclusive;
+  }
+
+  /**
+   * Checks if the range contains the specified value.
+   *
+   * @param value the value to check for
+   * @return {@code true} if the value is between the start and end values, {@code false} otherwise
+   */
+  public boolean contains(T value) {
+    return compare(comparator, start, value) <= 0 && compare(comparator, value, endInclusive) <= 0;
+  }
+
+  /**
+   * Checks if the range has no values, which is the case when the start value is greater than the
+   * end value.
+   *
+   * @return {@code true} if the range is empty, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return compare(comparator, start, endInclusive) > 0;
+  }
+
+  /**
+   * Coerces the value into the range: returns the start value if the value is less than it, the end
+   * value if the value is greater than it, and the value itself otherwise.
+   *
+   * @param value the value to coerce
+   * @return the value, limited to the bounds of the range
+   * @throws IllegalArgumentException if the range is empty
+   */
+  public T coerceIn(T value) {
+    if (isEmpty()) {
+      throw new IllegalArgumentException(
+          "Cannot coerce value to an empty range: " + start + ".." + endInclusive);
+    }
+    if (compare(comparator, value, start) < 0) {
+      return start;
+    }
+    return compare(comparator, value, endInclusive) > 0 ? endInclusive : value;
+  }
+
+  /**
+   * Checks if this range has at least one value in common with another range.
+   *
+   * @param other the other range
+   * @return {@code true} if the ranges overlap, {@code false} otherwise
+   */
+  public boolean overlaps(ClosedRange<T> other) {
+    return !isEmpty()
+        && !other.isEmpty()
+        && compare(comparator, start, other.endInclusive) <= 0
+        && compare(comparator, other.start, endInclusive) <= 0;
+  }
+
+  @Override
+  public String toString() {
+    return start + ".." + endInclusive;
+  }
+
+  /**
+   * Compares two values with the given comparator, or by their natural ordering if the comparator
+   * is {@code null}.
+   *
+   * @param comparator comparator to use, or {@code null} for the natural ordering
+   * @param a the first value
+   * @param b the second value
+   * @param <T> the type of the values
+   * @return a negative number, zero or a positive number as the first value is less than, equal to
+   *     or greater than the second one
+   */
+  @SuppressWarnings("unchecked")
+  static <T> int compare(Comparator<? super T> comparator, T a, T b) {
+    return comparator == null ? ((Comparable<? super T>) a).compareTo(b) : comparator.compare(a, b);
+  }
+}
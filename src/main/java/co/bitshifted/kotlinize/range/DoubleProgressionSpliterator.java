@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * A primitive spliterator over a floating-point progression. Each element is computed from its
+ * index rather than by adding the step to the previous element, so rounding errors do not
+ * accumulate, and the progression is split exactly in half by index.
+ */
+final class DoubleProgressionSpliterator implements Spliterator.OfDouble {
+
+  private final LongToDoubleFunction elementAt;
+  private long origin;
+  private final long fence;
+
+  /**
+   * Creates a new spliterator.
+   *
+   * @param elementAt function computing the element at a given index
+   * @param origin first index (inclusive)
+   * @param fence last index (exclusive)
+   */
+  DoubleProgressionSpliterator(LongToDoubleFunction elementAt, long origin, long fence) {
+    this.elementAt = elementAt;
+    this.origin = origin;
+    this.fence = fence;
+  }
+
+  @Override
+  public boolean tryAdvance(DoubleConsumer action) {
+    if (origin < fence) {
+      action.accept(elementAt.applyAsDouble(origin++));
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(DoubleConsumer action) {
+    for (long i = origin; i < fence; i++) {
+      action.accept(elementAt.applyAsDouble(i));
+    }
+    origin = fence;
+  }
+
+  @Override
+  public OfDouble trySplit() {
+    long mid = (origin + fence) >>> 1;
+    if (mid <= origin) {
+      return null;
+    }
+    var prefix = new DoubleProgressionSpliterator(elementAt, origin, mid);
+    origin = mid;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return fence - origin;
+  }
+
+  @Override
+  public int characteristics() {
+    return IndexSpliterator.CHARACTERISTICS;
+  }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A range of {@code double} values. This class represents a sequence of values from a start value
+ * to an end value (inclusive), separated by a fixed step.
+ *
+ * <p>Each element is computed as {@code start + index * step}, instead of adding the step to the
+ * previous element, so rounding errors do not accumulate along the range. Elements are compared
+ * exactly: the end value is only included if the computed element is equal to it.
+ */
+public final class DoubleRange extends Range<Double> {
+
+  /** An empty {@code DoubleRange}. */
+  public static final DoubleRange EMPTY = new DoubleRange(1.0, 0.0, 1.0, 1.0, 0, 0);
+
+  /** The element at index 0 of the progression this range was cut from. */
+  private final double base;
+
+  /** Signed difference between two consecutive elements. */
+  private final double delta;
+
+  /** Index of the first element of this range in the progression it was cut from. */
+  private final long offset;
+
+  private DoubleRange(
+      double start, double endInclusive, double base, double delta, long offset, long size) {
+    super(start, endInclusive, Math.abs(delta), size);
+    this.base = base;
+    this.delta = delta;
+    this.offset = offset;
+  }
+
+  /**
+   * Creates a range cut from the progression {@code base + index * delta}. The arguments are not
+   * checked.
+   *
+   * @param base element at index 0 of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param offset index of the first element of the range in the progression
+   * @param size number of elements in the range
+   * @return a new range, or {@link #EMPTY} if {@code size} is zero
+   */
+  static DoubleRange of(double base, double delta, long offset, long size) {
+    return of(base, delta, offset, size, endOf(base, delta, offset, size));
+  }
+
+  /**
+   * Creates a range cut from the progression {@code base + index * delta}, with the given end
+   * value. The arguments are not checked.
+   *
+   * @param base element at index 0 of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param offset index of the first element of the range in the progression
+   * @param size number of elements in the range
+   * @param end end value of the range
+   * @return a new range, or {@link #EMPTY} if {@code size} is zero
+   */
+  static DoubleRange of(double base, double delta, long offset, long size, double end) {
+    if (size == 0) {
+      return EMPTY;
+    }
+    return new DoubleRange(base + offset * delta, end, base, delta, offset, size);
+  }
+
+  /**
+   * Computes the end value of a range cut from the progression {@code base + index * delta}: its
+   * last element if it is increasing, and the element after its last one if it is decreasing.
+   *
+   * @param base element at index 0 of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param offset index of the first element of the range in the progression
+   * @param size number of elements in the range
+   * @return the end value of the range
+   */
+  static double endOf(double base, double delta, long offset, long size) {
+    long endIndex = delta > 0 ? offset + size - 1 : offset + size;
+    return base + endIndex * delta;
+  }
+
+  /**
+   * Creates a new {@code DoubleRange} with a specified step. The range includes all values from
+   * {@code start} to {@code endInclusive}. If {@code start} is greater than {@code endInclusive},
+   * the range will be decreasing.
+   *
+   * @param start the starting value of the range
+   * @param endInclusive the ending value of the range (inclusive)
+   * @param step the step between each value in the range
+   * @throws IllegalArgumentException if {@code step} is not positive, a bound or the step is not
+   *     finite, or the step is too small to separate consecutive values
+   */
+  public DoubleRange(double start, double endInclusive, double step) {
+    this(
+        start,
+        endInclusive,
+        start,
+        start > endInclusive ? -step : step,
+        0,
+        Progressions.size(
+            start, endInclusive, step, i -> start + i * (start > endInclusive ? -step : step)));
+  }
+
+  /**
+   * Returns a primitive iterator over the elements in the range. Unlike {@link #iterator()}, the
+   * returned iterator does not box the values.
+   *
+   * @return a {@link PrimitiveIterator.OfDouble} for the range elements
+   */
+  public PrimitiveIterator.OfDouble doubleIterator() {
+    return Spliterators.iterator(doubleSpliterator());
+  }
+
+  /**
+   * Performs the given action for each element of the range, without boxing the values.
+   *
+   * @param action the action to perform on each element
+   */
+  public void forEachDouble(DoubleConsumer action) {
+    for (long i = 0; i < size; i++) {
+      action.accept(compute(offset + i));
+    }
+  }
+
+  /**
+   * Checks if any element in the range matches the given predicate, without boxing the values.
+   *
+   * @param predicate the predicate to test elements against
+   * @return {@code true} if at least one element matches the predicate, {@code false} otherwise
+   */
+  public boolean anyDouble(DoublePredicate predicate) {
+    for (long i = 0; i < size; i++) {
+      if (predicate.test(compute(offset + i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if all elements in the range match the given predicate, without boxing the values.
+   *
+   * @param predicate the predicate to test elements against
+   * @return {@code true} if all elements match the predicate, {@code false} otherwise
+   */
+  public boolean allDouble(DoublePredicate predicate) {
+    for (long i = 0; i < size; i++) {
+      if (!predicate.test(compute(offset + i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a primitive spliterator over the elements in the range. The spliterator knows its exact
+   * size and splits the range exactly in half by index.
+   *
+   * @return a {@link Spliterator.OfDouble} for the range elements
+   */
+  public Spliterator.OfDouble doubleSpliterator() {
+    return new DoubleProgressionSpliterator(this::compute, offset, offset + size);
+  }
+
+  /**
+   * Returns a sequential {@link DoubleStream} of the range elements.
+   *
+   * @return a sequential stream of the range elements
+   */
+  public DoubleStream doubleStream() {
+    return StreamSupport.doubleStream(doubleSpliterator(), false);
+  }
+
+  /**
+   * Returns a parallel {@link DoubleStream} of the range elements.
+   *
+   * @return a parallel stream of the range elements
+   */
+  public DoubleStream parallelDoubleStream() {
+    return StreamSupport.doubleStream(doubleSpliterator(), true);
+  }
+
+  /**
+   * Returns the elements of the range as a new array.
+   *
+   * @return an array of the range elements, in iteration order
+   * @throws ArithmeticException if the range has more than {@link Integer#MAX_VALUE} elements
+   */
+  public double[] toDoubleArray() {
+    var array = new double[count()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = compute(offset + i);
+    }
+    return array;
+  }
+
+  /**
+   * Checks if the range contains the specified value. The check takes constant time regardless of
+   * the range size.
+   *
+   * @param value the value to check for
+   * @return {@code true} if the value is in the range, {@code false} otherwise
+   */
+  public boolean contains(double value) {
+    return indexOf(value) >= 0;
+  }
+
+  /**
+   * Returns the index of the specified value in the range. The index is computed from the range
+   * bounds and step, without iterating over the elements. A value is only found if it is exactly
+   * equal to the computed element.
+   *
+   * @param value the value to look for
+   * @return the zero-based index of the value, or {@code -1} if the range does not contain it
+   */
+  public long indexOf(double value) {
+    if (size == 0) {
+      return -1;
+    }
+    return Progressions.indexOf(value, compute(offset), delta, size, i -> compute(offset + i));
+  }
+
+  @Override
+  public long indexOf(Double value) {
+    return value == null ? -1 : indexOf(value.doubleValue());
+  }
+
+  /**
+   * Returns the element at the specified index, without boxing it.
+   *
+   * @param index zero-based index of the element
+   * @return the element at the given index
+   * @throws IndexOutOfBoundsException if the index is negative or not less than {@link
+   *     #longCount()}
+   */
+  public double doubleAt(long index) {
+    Objects.checkIndex(index, size);
+    return compute(offset + index);
+  }
+
+  @Override
+  public List<DoubleRange> chunked(long size) {
+    return RangeSlices.chunked(this.size, size, this::slice);
+  }
+
+  @Override
+  public List<DoubleRange> split(int parts) {
+    return RangeSlices.split(size, parts, this::slice);
+  }
+
+  /**
+   * Creates a sub-range from a half-open interval of element indices. The sub-range computes its
+   * elements from the same base value as this range, so they are identical to the elements of this
+   * range.
+   *
+   * @param fromIndex index of the first element (inclusive)
+   * @param toIndex index of the last element (exclusive)
+   * @return the sub-range
+   */
+  private DoubleRange slice(long fromIndex, long toIndex) {
+    if (fromIndex >= toIndex) {
+      return EMPTY;
+    }
+    return of(base, delta, offset + fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * Returns the element at index 0 of the progression this range was cut from.
+   *
+   * @return the base element
+   */
+  double base() {
+    return base;
+  }
+
+  /**
+   * Returns the signed difference between two consecutive elements.
+   *
+   * @return the signed step
+   */
+  double delta() {
+    return delta;
+  }
+
+  /**
+   * Returns the index of the first element of this range in the progression it was cut from.
+   *
+   * @return the offset of this range
+   */
+  long offset() {
+    return offset;
+  }
+
+  /**
+   * Computes the element at the given index of the progression this range was cut from.
+   *
+   * @param index index in the progression
+   * @return the element at the given index
+   */
+  private double compute(long index) {
+    return base + index * delta;
+  }
+
+  @Override
+  Double valueAt(long index) {
+    return compute(offset + index);
+  }
+}
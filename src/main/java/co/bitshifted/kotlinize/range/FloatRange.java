@@ -0,0 +1,272 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A range of {@code float} values. This class represents a sequence of values from a start value to
+ * an end value (inclusive), separated by a fixed step.
+ *
+ * <p>Each element is computed as {@code start + index * step} in {@code double} precision and then
+ * rounded to {@code float}, instead of adding the step to the previous element, so rounding errors
+ * do not accumulate along the range. Elements are compared exactly: the end value is only included
+ * if the computed element is equal to it.
+ */
+public final class FloatRange extends Range<Float> {
+
+  /** An empty {@code FloatRange}. */
+  public static final FloatRange EMPTY = new FloatRange(1f, 0f, 1f, 1f, 0, 0);
+
+  /** The element at index 0 of the progression this range was cut from. */
+  private final float base;
+
+  /** Signed difference between two consecutive elements. */
+  private final float delta;
+
+  /** Index of the first element of this range in the progression it was cut from. */
+  private final long offset;
+
+  private FloatRange(
+      float start, float endInclusive, float base, float delta, long offset, long size) {
+    super(start, endInclusive, Math.abs(delta), size);
+    this.base = base;
+    this.delta = delta;
+    this.offset = offset;
+  }
+
+  /**
+   * Creates a range cut from the progression {@code base + index * delta}. The arguments are not
+   * checked.
+   *
+   * @param base element at index 0 of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param offset index of the first element of the range in the progression
+   * @param size number of elements in the range
+   * @return a new range, or {@link #EMPTY} if {@code size} is zero
+   */
+  static FloatRange of(float base, float delta, long offset, long size) {
+    return of(base, delta, offset, size, endOf(base, delta, offset, size));
+  }
+
+  /**
+   * Creates a range cut from the progression {@code base + index * delta}, with the given end
+   * value. The arguments are not checked.
+   *
+   * @param base element at index 0 of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param offset index of the first element of the range in the progression
+   * @param size number of elements in the range
+   * @param end end value of the range
+   * @return a new range, or {@link #EMPTY} if {@code size} is zero
+   */
+  static FloatRange of(float base, float delta, long offset, long size, float end) {
+    if (size == 0) {
+      return EMPTY;
+    }
+    return new FloatRange((float) (base + offset * (double) delta), end, base, delta, offset, size);
+  }
+
+  /**
+   * Computes the end value of a range cut from the progression {@code base + index * delta}: its
+   * last element if it is increasing, and the element after its last one if it is decreasing.
+   *
+   * @param base element at index 0 of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param offset index of the first element of the range in the progression
+   * @param size number of elements in the range
+   * @return the end value of the range
+   */
+  static float endOf(float base, float delta, long offset, long size) {
+    long endIndex = delta > 0 ? offset + size - 1 : offset + size;
+    return (float) (base + endIndex * (double) delta);
+  }
+
+  /**
+   * Creates a new {@code FloatRange} with a specified step. The range includes all values from
+   * {@code start} to {@code endInclusive}. If {@code start} is greater than {@code endInclusive},
+   * the range will be decreasing.
+   *
+   * @param start the starting value of the range
+   * @param endInclusive the ending value of the range (inclusive)
+   * @param step the step between each value in the range
+   * @throws IllegalArgumentException if {@code step} is not positive, a bound or the step is not
+   *     finite, or the step is too small to separate consecutive values
+   */
+  public FloatRange(float start, float endInclusive, float step) {
+    this(
+        start,
+        endInclusive,
+        start,
+        start > endInclusive ? -step : step,
+        0,
+        Progressions.size(
+            start,
+            endInclusive,
+            step,
+            i -> (float) (start + i * (double) (start > endInclusive ? -step : step))));
+  }
+
+  /**
+   * Returns a primitive spliterator over the elements in the range, widened to {@code double}. The
+   * spliterator knows its exact size and splits the range exactly in half by index.
+   *
+   * @return a {@link Spliterator.OfDouble} for the range elements
+   */
+  public Spliterator.OfDouble doubleSpliterator() {
+    return new DoubleProgressionSpliterator(this::compute, offset, offset + size);
+  }
+
+  /**
+   * Returns a sequential {@link DoubleStream} of the range elements, widened to {@code double}.
+   *
+   * @return a sequential stream of the range elements
+   */
+  public DoubleStream doubleStream() {
+    return StreamSupport.doubleStream(doubleSpliterator(), false);
+  }
+
+  /**
+   * Returns a parallel {@link DoubleStream} of the range elements, widened to {@code double}.
+   *
+   * @return a parallel stream of the range elements
+   */
+  public DoubleStream parallelDoubleStream() {
+    return StreamSupport.doubleStream(doubleSpliterator(), true);
+  }
+
+  /**
+   * Returns the elements of the range as a new array.
+   *
+   * @return an array of the range elements, in iteration order
+   * @throws ArithmeticException if the range has more than {@link Integer#MAX_VALUE} elements
+   */
+  public float[] toFloatArray() {
+    var array = new float[count()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = compute(offset + i);
+    }
+    return array;
+  }
+
+  /**
+   * Checks if the range contains the specified value. The check takes constant time regardless of
+   * the range size.
+   *
+   * @param value the value to check for
+   * @return {@code true} if the value is in the range, {@code false} otherwise
+   */
+  public boolean contains(float value) {
+    return indexOf(value) >= 0;
+  }
+
+  /**
+   * Returns the index of the specified value in the range. The index is computed from the range
+   * bounds and step, without iterating over the elements. A value is only found if it is exactly
+   * equal to the computed element.
+   *
+   * @param value the value to look for
+   * @return the zero-based index of the value, or {@code -1} if the range does not contain it
+   */
+  public long indexOf(float value) {
+    if (size == 0) {
+      return -1;
+    }
+    return Progressions.indexOf(value, compute(offset), delta, size, i -> compute(offset + i));
+  }
+
+  @Override
+  public long indexOf(Float value) {
+    return value == null ? -1 : indexOf(value.floatValue());
+  }
+
+  /**
+   * Returns the element at the specified index, without boxing it.
+   *
+   * @param index zero-based index of the element
+   * @return the element at the given index
+   * @throws IndexOutOfBoundsException if the index is negative or not less than {@link
+   *     #longCount()}
+   */
+  public float floatAt(long index) {
+    Objects.checkIndex(index, size);
+    return compute(offset + index);
+  }
+
+  @Override
+  public List<FloatRange> chunked(long size) {
+    return RangeSlices.chunked(this.size, size, this::slice);
+  }
+
+  @Override
+  public List<FloatRange> split(int parts) {
+    return RangeSlices.split(size, parts, this::slice);
+  }
+
+  /**
+   * Creates a sub-range from a half-open interval of element indices. The sub-range computes its
+   * elements from the same base value as this range, so they are identical to the elements of this
+   * range.
+   *
+   * @param fromIndex index of the first element (inclusive)
+   * @param toIndex index of the last element (exclusive)
+   * @return the sub-range
+   */
+  private FloatRange slice(long fromIndex, long toIndex) {
+    if (fromIndex >= toIndex) {
+      return EMPTY;
+    }
+    return of(base, delta, offset + fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * Returns the element at index 0 of the progression this range was cut from.
+   *
+   * @return the base element
+   */
+  float base() {
+    return base;
+  }
+
+  /**
+   * Returns the signed difference between two consecutive elements.
+   *
+   * @return the signed step
+   */
+  float delta() {
+    return delta;
+  }
+
+  /**
+   * Returns the index of the first element of this range in the progression it was cut from.
+   *
+   * @return the offset of this range
+   */
+  long offset() {
+    return offset;
+  }
+
+  /**
+   * Computes the element at the given index of the progression this range was cut from.
+   *
+   * @param index index in the progression
+   * @return the element at the given index
+   */
+  private float compute(long index) {
+    return (float) (base + index * (double) delta);
+  }
+
+  @Override
+  Float valueAt(long index) {
+    return compute(offset + index);
+  }
+}
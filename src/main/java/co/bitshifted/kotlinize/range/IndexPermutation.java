@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A pseudo-random permutation of the indices {@code 0..size-1}, determined by a seed. The
+ * permutation is computed on demand for each index, so it takes constant memory regardless of the
+ * size.
+ *
+ * <p>Indices are encrypted with a balanced Feistel network over the smallest power-of-four domain
+ * which holds all indices. Each round mixes one half of the value with a round key, so the network
+ * is a bijection on its domain. Results that fall outside {@code 0..size-1} are encrypted again
+ * (cycle walking) until they fall inside, which keeps the mapping a bijection on the indices. The
+ * domain is less than four times larger than the number of indices, so only a few rounds of walking
+ * are needed on average.
+ */
+final class IndexPermutation implements LongUnaryOperator {
+
+  private static final int ROUNDS = 4;
+
+  private final long size;
+  private final int halfBits;
+  private final long halfMask;
+  private final long[] keys = new long[ROUNDS];
+
+  /**
+   * Creates a new permutation.
+   *
+   * @param size number of indices to permute
+   * @param seed seed which determines the permutation
+   */
+  IndexPermutation(long size, long seed) {
+    this.size = size;
+    int bits = Math.max(2, 64 - Long.numberOfLeadingZeros(size - 1));
+    this.halfBits = (bits + 1) / 2;
+    this.halfMask = (1L << halfBits) - 1;
+    long state = seed;
+    for (int i = 0; i < ROUNDS; i++) {
+      state += 0x9E3779B97F4A7C15L;
+      keys[i] = mix(state);
+    }
+  }
+
+  /**
+   * Returns the position of an index in the permuted order.
+   *
+   * @param index index to permute, between {@code 0} and {@code size - 1}
+   * @return the permuted index, between {@code 0} and {@code size - 1}
+   */
+  @Override
+  public long applyAsLong(long index) {
+    long value = index;
+    do {
+      value = encrypt(value);
+    } while (Long.compareUnsigned(value, size) >= 0);
+    return value;
+  }
+
+  private long encrypt(long value) {
+    long left = value >>> halfBits;
+    long right = value & halfMask;
+    for (long key : keys) {
+      long next = left ^ (mix(right ^ key) & halfMask);
+      left = right;
+      right = next;
+    }
+    return left << halfBits | right;
+  }
+
+  /** Finalizer of the SplitMix64 generator, which spreads every input bit over the whole output. */
+  private static long mix(long value) {
+    long z = value;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * A spliterator over a half-open interval of element indices. Elements are computed from their
+ * index, and the interval is split exactly in half on each call to {@link #trySplit()}.
+ *
+ * @param <T> the type of the elements
+ */
+final class IndexSpliterator<T> implements Spliterator<T> {
+
+  /** Characteristics shared by all spliterators over range elements. */
+  static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT;
+
+  private final LongFunction<T> mapper;
+  private long origin;
+  private final long fence;
+
+  /**
+   * Creates a new spliterator.
+   *
+   * @param mapper function computing the element at a given index
+   * @param origin first index (inclusive)
+   * @param fence last index (exclusive)
+   */
+  IndexSpliterator(LongFunction<T> mapper, long origin, long fence) {
+    this.mapper = mapper;
+    this.origin = origin;
+    this.fence = fence;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (origin < fence) {
+      action.accept(mapper.apply(origin++));
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    for (long i = origin; i < fence; i++) {
+      action.accept(mapper.apply(i));
+    }
+    origin = fence;
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    long mid = (origin + fence) >>> 1;
+    if (mid <= origin) {
+      return null;
+    }
+    var prefix = new IndexSpliterator<>(mapper, origin, mid);
+    origin = mid;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return fence - origin;
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A range of {@link Instant} values, from a start instant to an end instant (inclusive), separated
+ * by a fixed {@link Duration}. The range is always increasing.
+ *
+ * <p>Like the other ranges, an {@code InstantRange} does not store its elements. Each element is
+ * computed as {@code start + index * step}, and the index of an instant is computed by dividing its
+ * distance from the start by the step, so {@link #indexOf(Instant)} and {@link #bucketOf(Instant)}
+ * take constant time. The elements can be used as the boundaries of consecutive time windows.
+ */
+public final class InstantRange implements Iterable<Instant> {
+
+  /** An empty {@code InstantRange}. */
+  public static final InstantRange EMPTY = new InstantRange(Instant.EPOCH, Duration.ofNanos(1), 0);
+
+  /** Largest number of seconds whose length in nanoseconds fits in a {@code long}. */
+  private static final long MAX_NANO_SECONDS = Long.MAX_VALUE / 1_000_000_000L - 1;
+
+  private final Instant start;
+  private final Duration step;
+  private final long size;
+
+  /** Length of the step in nanoseconds, or {@code -1} if it does not fit in a {@code long}. */
+  private final long stepNanos;
+
+  private InstantRange(Instant start, Duration step, long size) {
+    this.start = start;
+    this.step = step;
+    this.size = size;
+    this.stepNanos = step.getSeconds() <= MAX_NANO_SECONDS ? step.toNanos() : -1;
+  }
+
+  /**
+   * Creates a new {@code InstantRange}. The range includes all instants from {@code start} to
+   * {@code endInclusive} which are a whole number of steps away from {@code start}. If {@code
+   * start} is after {@code endInclusive}, the range is empty.
+   *
+   * @param start the first instant of the range
+   * @param endInclusive the ending instant of the range (inclusive)
+   * @param step the duration between two consecutive instants
+   * @throws IllegalArgumentException if {@code step} is not positive, or the range has more than
+   *     {@link Long#MAX_VALUE} elements
+   */
+  public InstantRange(Instant start, Instant endInclusive, Duration step) {
+    this(start, step, sizeOf(start, endInclusive, checkStep(step)));
+  }
+
+  /**
+   * Creates a new {@code InstantRange} with the given number of elements.
+   *
+   * @param start the first instant of the range
+   * @param step the duration between two consecutive instants
+   * @param count the number of elements in the range
+   * @return a new range
+   * @throws IllegalArgumentException if {@code step} is not positive or {@code count} is negative
+   * @throws java.time.DateTimeException if the last element would be after {@link Instant#MAX}
+   */
+  public static InstantRange ofCount(Instant start, Duration step, long count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("Count must not be negative, was: " + count);
+    }
+    var range = new InstantRange(Objects.requireNonNull(start), checkStep(step), count);
+    if (count > 0) {
+      range.valueAt(count - 1);
+    }
+    return range;
+  }
+
+  private static long sizeOf(Instant start, Instant endInclusive, Duration step) {
+    if (start.isAfter(endInclusive)) {
+      return 0;
+    }
+    try {
+      return Math.addExact(Duration.between(start, endInclusive).dividedBy(step), 1);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Range has more than " + Long.MAX_VALUE + " elements");
+    }
+  }
+
+  private static Duration checkStep(Duration step) {
+    if (step.isNegative() || step.isZero()) {
+      throw new IllegalArgumentException("Step must be positive, was: " + step);
+    }
+    return step;
+  }
+
+  /**
+   * Gets the start instant of the range.
+   *
+   * @return the start instant
+   */
+  public Instant start() {
+    return start;
+  }
+
+  /**
+   * Gets the duration between two consecutive elements.
+   *
+   * @return the step
+   */
+  public Duration step() {
+    return step;
+  }
+
+  /**
+   * Gets the first element in the range.
+   *
+   * @return the first element
+   * @throws NoSuchElementException if the range is empty
+   */
+  public Instant first() {
+    if (size == 0) {
+      throw new NoSuchElementException("Range is empty");
+    }
+    return start;
+  }
+
+  /**
+   * Gets the last element in the range.
+   *
+   * @return the last element
+   * @throws NoSuchElementException if the range is empty
+   */
+  public Instant last() {
+    if (size == 0) {
+      throw new NoSuchElementException("Range is empty");
+    }
+    return valueAt(size - 1);
+  }
+
+  /**
+   * Checks if the range has no elements.
+   *
+   * @return {@code true} if the range is empty, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the count of elements in the range.
+   *
+   * @return the number of elements
+   * @throws ArithmeticException if the range has more than {@link Integer#MAX_VALUE} elements
+   */
+  public int count() {
+    return Math.toIntExact(size);
+  }
+
+  /**
+   * Returns the count of elements in the range as a {@code long}.
+   *
+   * @return the number of elements
+   */
+  public long longCount() {
+    return size;
+  }
+
+  /**
+   * Returns the element at the specified index. The element is computed from the start and step,
+   * without iterating over the elements.
+   *
+   * @param index zero-based index of the element
+   * @return the element at the given index
+   * @throws IndexOutOfBoundsException if the index is negative or not less than {@link
+   *     #longCount()}
+   */
+  public Instant elementAt(long index) {
+    return valueAt(Objects.checkIndex(index, size));
+  }
+
+  /**
+   * Returns the index of the specified instant in the range.
+   *
+   * @param instant the instant to look for
+   * @return the zero-based index of the instant, or {@code -1} if the range does not contain it
+   */
+  public long indexOf(Instant instant) {
+    long index = bucketOf(instant);
+    return index >= 0 && valueAt(index).equals(instant) ? index : -1;
+  }
+
+  /**
+   * Checks if the range contains the specified instant.
+   *
+   * @param instant the instant to check for
+   * @return {@code true} if the instant is in the range, {@code false} otherwise
+   */
+  public boolean contains(Instant instant) {
+    return indexOf(instant) >= 0;
+  }
+
+  /**
+   * Returns the index of the time window which contains the specified instant. The window of the
+   * element at index {@code i} starts at that element (inclusive) and lasts for one step, so the
+   * window of the last element ends one step after the last element.
+   *
+   * @param instant the instant to look up
+   * @return the zero-based index of the window, or {@code -1} if the instant is outside all windows
+   */
+  public long bucketOf(Instant instant) {
+    if (instant.isBefore(start)) {
+      return -1;
+    }
+    long index = stepsTo(instant);
+    return index < size ? index : -1;
+  }
+
+  /**
+   * Cuts the range into consecutive chunks of the given size. The last chunk may be smaller. The
+   * returned list is lazy: chunks are created only when they are accessed.
+   *
+   * @param size number of elements in each chunk
+   * @return a list of chunks
+   * @throws IllegalArgumentException if {@code size} is not positive, or the range would be cut
+   *     into more than {@link Integer#MAX_VALUE} chunks
+   */
+  public List<InstantRange> chunked(long size) {
+    return RangeSlices.chunked(this.size, size, this::slice);
+  }
+
+  /**
+   * Splits the range into the given number of consecutive parts whose sizes differ by at most one.
+   * The returned list is lazy: parts are created only when they are accessed.
+   *
+   * @param parts number of parts
+   * @return a list of exactly {@code parts} ranges
+   * @throws IllegalArgumentException if {@code parts} is not positive
+   */
+  public List<InstantRange> split(int parts) {
+    return RangeSlices.split(size, parts, this::slice);
+  }
+
+  /**
+   * Returns a sequential {@link Stream} of the range elements.
+   *
+   * @return a sequential stream of the range elements
+   */
+  public Stream<Instant> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Returns a parallel {@link Stream} of the range elements.
+   *
+   * @return a parallel stream of the range elements
+   */
+  public Stream<Instant> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  /**
+   * Returns a {@link Spliterator} over the range elements. The spliterator knows its exact size and
+   * splits the range exactly in half by index.
+   *
+   * @return a {@link Spliterator} for the range elements
+   */
+  @Override
+  public Spliterator<Instant> spliterator() {
+    return new IndexSpliterator<>(this::valueAt, 0, size);
+  }
+
+  /**
+   * Returns an iterator over the elements in the range.
+   *
+   * @return an {@link Iterator} for the range elements
+   */
+  @Override
+  public Iterator<Instant> iterator() {
+    return Spliterators.iterator(spliterator());
+  }
+
+  /**
+   * Computes the element at the given index. The index is not checked against the range bounds.
+   *
+   * @param index zero-based index of the element
+   * @return the element at the given index
+   */
+  private Instant valueAt(long index) {
+    if (stepNanos > 0 && index <= Long.MAX_VALUE / stepNanos) {
+      return start.plusNanos(index * stepNanos);
+    }
+    return start.plus(step.multipliedBy(index));
+  }
+
+  /**
+   * Computes the number of whole steps from the start to an instant which is not before it.
+   *
+   * @param instant instant to measure
+   * @return the number of steps, or {@link Long#MAX_VALUE} if it does not fit in a {@code long}
+   */
+  private long stepsTo(Instant instant) {
+    long seconds = instant.getEpochSecond() - start.getEpochSecond();
+    if (stepNanos > 0 && seconds <= MAX_NANO_SECONDS) {
+      return (seconds * 1_000_000_000L + instant.getNano() - start.getNano()) / stepNanos;
+    }
+    try {
+      return Duration.between(start, instant).dividedBy(step);
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private InstantRange slice(long fromIndex, long toIndex) {
+    return fromIndex >= toIndex
+        ? EMPTY
+        : new InstantRange(valueAt(fromIndex), step, toIndex - fromIndex);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A primitive iterator over an arithmetic progression of {@code int} values. Used by all ranges
+ * whose elements fit in an {@code int}.
+ */
+final class IntProgressionIterator implements PrimitiveIterator.OfInt {
+
+  private int next;
+  private final int delta;
+  private long remaining;
+
+  /**
+   * Creates a new iterator.
+   *
+   * @param first first element of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param size number of elements to iterate over
+   */
+  IntProgressionIterator(int first, int delta, long size) {
+    this.next = first;
+    this.delta = delta;
+    this.remaining = size;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return remaining > 0;
+  }
+
+  @Override
+  public int nextInt() {
+    if (remaining <= 0) {
+      throw new NoSuchElementException();
+    }
+    int value = next;
+    next += delta;
+    remaining--;
+    return value;
+  }
+}
@@ -7,12 +7,75 @@
  */
 package co.bitshifted.kotlinize.range;
 
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
 /**
  * A range of {@code int} values. This class represents a sequence of integers from a start value to
  * an end value (inclusive).
  */
 public final class IntRange extends Range<Integer> {
 
+  /** The first element of the range. */
+  private final int origin;
+
+  /** An empty {@code IntRange}. */
+  public static final IntRange EMPTY = new IntRange(1, 0, 1, 0);
+
+  /** Signed difference between two consecutive elements. */
+  private final int delta;
+
+  private IntRange(int start, int endInclusive, int step, long size) {
+    super(start, endInclusive, step, size);
+    this.origin = start;
+    this.delta = start > endInclusive ? -step : step;
+  }
+
+  /**
+   * Creates a range from its first element, signed step and number of elements. The arguments are
+   * not checked, so the caller must make sure that all elements fit in {@code int}.
+   *
+   * @param first first element of the range
+   * @param delta signed difference between two consecutive elements
+   * @param size number of elements in the range
+   * @return a new range, or {@link #EMPTY} if {@code size} is zero
+   */
+  static IntRange of(int first, int delta, long size) {
+    if (size == 0) {
+      return EMPTY;
+    }
+    long last = first + (size - 1) * delta;
+    return new IntRange(
+        first, (int) Progressions.end(last, delta, Integer.MIN_VALUE), Math.abs(delta), size);
+  }
+
+  /**
+   * Creates a range from its first element, signed step, number of elements and end value. The
+   * arguments are not checked, so the caller must make sure that all elements fit in {@code int}
+   * and that {@code end} is less than {@code first} exactly when the range is decreasing.
+   *
+   * @param first first element of the range
+   * @param delta signed difference between two consecutive elements
+   * @param size number of elements in the range
+   * @param end end value of the range
+   * @return a new range, or {@link #EMPTY} if {@code size} is zero
+   */
+  static IntRange of(int first, int delta, long size, int end) {
+    return size == 0 ? EMPTY : new IntRange(first, end, Math.abs(delta), size);
+  }
+
   /**
    * Creates a new {@code IntRange} with a specified step. The range includes all values from {@code
    * start} to {@code endInclusive}. If {@code start} is greater than {@code endInclusive}, the
@@ -21,19 +84,10 @@ public final class IntRange extends Range<Integer> {
    * @param start the starting value of the range
    * @param endInclusive the ending value of the range (inclusive)
    * @param step the step between each value in the range
+   * @throws IllegalArgumentException if {@code step} is not positive
    */
   public IntRange(int start, int endInclusive, int step) {
-    super(start, endInclusive, step);
-    var decreasing = start > endInclusive;
-    int current = start;
-    while (!decreasing && current <= endInclusive) {
-      elements.add(current);
-      current += step;
-    }
-    while (decreasing && current > endInclusive) {
-      elements.add(current);
-      current -= step;
-    }
+    this(start, endInclusive, step, Progressions.size(start, endInclusive, step));
   }
 
   /**
@@ -47,4 +101,502 @@ public final class IntRange extends Range<Integer> {
   public IntRange(int start, int endInclusive) {
     this(start, endInclusive, 1);
   }
+
+  /**
+   * Creates a range which goes from {@code first} towards {@code last} by a signed step. Unlike the
+   * constructors, the bound is inclusive in both directions: {@code fromClosedRange(10, 1, -1)}
+   * contains the values from 10 down to 1. The range is empty if the step points away from {@code
+   * last}, and its last element is the last one which does not go past {@code last}.
+   *
+   * @param first the first element of the range
+   * @param last the bound of the range (inclusive)
+   * @param step the signed difference between two consecutive elements
+   * @return a new range
+   * @throws IllegalArgumentException if {@code step} is zero or out of range
+   */
+  public static IntRange fromClosedRange(int first, int last, int step) {
+    if (step == Integer.MIN_VALUE) {
+      throw new IllegalArgumentException("Step is out of range: " + step);
+    }
+    return of(first, step, Progressions.closedSize(first, last, step));
+  }
+
+  /**
+   * Returns a primitive iterator over the elements in the range. Unlike {@link #iterator()}, the
+   * returned iterator does not box the values.
+   *
+   * @return a {@link PrimitiveIterator.OfInt} for the range elements
+   */
+  public PrimitiveIterator.OfInt intIterator() {
+    return new IntProgressionIterator(origin, delta, size);
+  }
+
+  /**
+   * Performs the given action for each element of the range, without boxing the values.
+   *
+   * @param action the action to perform on each element
+   */
+  public void forEachInt(IntConsumer action) {
+    int value = origin;
+    for (long i = 0; i < size; i++) {
+      action.accept(value);
+      value += delta;
+    }
+  }
+
+  /**
+   * Checks if any element in the range matches the given predicate, without boxing the values.
+   *
+   * @param predicate the predicate to test elements against
+   * @return {@code true} if at least one element matches the predicate, {@code false} otherwise
+   */
+  public boolean anyInt(IntPredicate predicate) {
+    int value = origin;
+    for (long i = 0; i < size; i++) {
+      if (predicate.test(value)) {
+        return true;
+      }
+      value += delta;
+    }
+    return false;
+  }
+
+  /**
+   * Checks if all elements in the range match the given predicate, without boxing the values.
+   *
+   * @param predicate the predicate to test elements against
+   * @return {@code true} if all elements match the predicate, {@code false} otherwise
+   */
+  public boolean allInt(IntPredicate predicate) {
+    int value = origin;
+    for (long i = 0; i < size; i++) {
+      if (!predicate.test(value)) {
+        return false;
+      }
+      value += delta;
+    }
+    return true;
+  }
+
+  /**
+   * Returns a primitive spliterator over the elements in the range. The spliterator knows its exact
+   * size and splits the range exactly in half by index.
+   *
+   * @return a {@link Spliterator.OfInt} for the range elements
+   */
+  public Spliterator.OfInt intSpliterator() {
+    return new IntProgressionSpliterator(origin, delta, 0, size);
+  }
+
+  /**
+   * Returns a sequential {@link IntStream} of the range elements.
+   *
+   * @return a sequential stream of the range elements
+   */
+  public IntStream intStream() {
+    return StreamSupport.intStream(intSpliterator(), false);
+  }
+
+  /**
+   * Returns a parallel {@link IntStream} of the range elements.
+   *
+   * @return a parallel stream of the range elements
+   */
+  public IntStream parallelIntStream() {
+    return StreamSupport.intStream(intSpliterator(), true);
+  }
+
+  /**
+   * Returns a sequential {@link IntStream} of the range elements in a pseudo-random order, without
+   * boxing the values. Every element is visited exactly once, the same seed always gives the same
+   * order, and the stream takes constant memory regardless of the range size. The stream can be
+   * turned into a parallel one with {@link IntStream#parallel()}.
+   *
+   * @param seed seed which determines the order
+   * @return a stream of the shuffled range elements
+   */
+  public IntStream shuffledIntStream(long seed) {
+    var permutation = new IndexPermutation(size, seed);
+    return LongStream.range(0, size)
+        .mapToInt(index -> origin + (int) permutation.applyAsLong(index) * delta);
+  }
+
+  /**
+   * Returns a primitive iterator over the elements of the range in a pseudo-random order, without
+   * boxing the values.
+   *
+   * @param seed seed which determines the order
+   * @return a {@link PrimitiveIterator.OfInt} over the shuffled range elements
+   * @see #shuffledIntStream(long)
+   */
+  public PrimitiveIterator.OfInt shuffledIntIterator(long seed) {
+    return shuffledIntStream(seed).iterator();
+  }
+
+  /**
+   * Returns the elements of the range as a new array.
+   *
+   * @return an array of the range elements, in iteration order
+   * @throws ArithmeticException if the range has more than {@link Integer#MAX_VALUE} elements
+   */
+  public int[] toIntArray() {
+    var array = new int[count()];
+    ProgressionArrays.fill(array, 0, origin, delta, array.length);
+    return array;
+  }
+
+  /**
+   * Writes the elements of the range into an array, starting at the given offset.
+   *
+   * @param dst destination array
+   * @param offset index in the array where the first element is written
+   * @throws ArithmeticException if the range has more than {@link Integer#MAX_VALUE} elements
+   * @throws IndexOutOfBoundsException if the elements do not fit in the array
+   */
+  public void fillInto(int[] dst, int offset) {
+    ProgressionArrays.fill(dst, offset, origin, delta, count());
+  }
+
+  /**
+   * Writes the elements of the range into a buffer, starting at its current position, and advances
+   * the position past the written elements. Direct buffers can be used to write the elements
+   * off-heap, for example into a buffer passed to native code.
+   *
+   * @param dst destination buffer
+   * @throws ArithmeticException if the range has more than {@link Integer#MAX_VALUE} elements
+   * @throws java.nio.BufferOverflowException if the buffer has fewer remaining elements than the
+   *     range
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+   */
+  public void fillInto(IntBuffer dst) {
+    ProgressionArrays.fill(dst, origin, delta, count());
+  }
+
+  /**
+   * Checks if the range contains the specified value. The check takes constant time regardless of
+   * the range size.
+   *
+   * @param value the value to check for
+   * @return {@code true} if the value is in the range, {@code false} otherwise
+   */
+  public boolean contains(int value) {
+    return indexOf(value) >= 0;
+  }
+
+  /**
+   * Returns the index of the specified value in the range. The index is computed from the range
+   * bounds and step, without iterating over the elements.
+   *
+   * @param value the value to look for
+   * @return the zero-based index of the value, or {@code -1} if the range does not contain it
+   */
+  public long indexOf(int value) {
+    return Progressions.indexOf(origin, delta, size, value);
+  }
+
+  @Override
+  public long indexOf(Integer value) {
+    return value == null ? -1 : indexOf(value.intValue());
+  }
+
+  /**
+   * Returns the element at the specified index, without boxing it.
+   *
+   * @param index zero-based index of the element
+   * @return the element at the given index
+   * @throws IndexOutOfBoundsException if the index is negative or not less than {@link
+   *     #longCount()}
+   */
+  public int intAt(long index) {
+    Objects.checkIndex(index, size);
+    return origin + (int) index * delta;
+  }
+
+  /**
+   * Returns the sum of all elements in the range. The sum is computed in closed form and widened to
+   * {@code long}, so it cannot overflow.
+   *
+   * @return the sum of the range elements, or {@code 0} if the range is empty
+   */
+  public long sum() {
+    return Progressions.sum(origin, origin + (int) (size - 1) * delta, size);
+  }
+
+  /**
+   * Returns the smallest element in the range.
+   *
+   * @return the smallest element
+   * @throws NoSuchElementException if the range is empty
+   */
+  public int min() {
+    if (size == 0) {
+      throw new NoSuchElementException("Range is empty");
+    }
+    return delta > 0 ? origin : origin + (int) (size - 1) * delta;
+  }
+
+  /**
+   * Returns the largest element in the range.
+   *
+   * @return the largest element
+   * @throws NoSuchElementException if the range is empty
+   */
+  public int max() {
+    if (size == 0) {
+      throw new NoSuchElementException("Range is empty");
+    }
+    return delta > 0 ? origin + (int) (size - 1) * delta : origin;
+  }
+
+  /**
+   * Returns the average of all elements in the range, computed in closed form.
+   *
+   * @return the average of the range elements, or {@link Double#NaN} if the range is empty
+   */
+  public double average() {
+    return Progressions.average(origin, origin + (int) (size - 1) * delta, size);
+  }
+
+  /**
+   * Returns a view of this range with the elements in reverse order. The view is created in
+   * constant time and shares the arithmetic of this range.
+   *
+   * @return a range with the same elements in reverse order
+   */
+  public IntRange reversed() {
+    return size == 0 ? EMPTY : of((int) (origin + (size - 1) * delta), -delta, size);
+  }
+
+  /**
+   * Returns a view of this range with a different step. The view starts at the first element of
+   * this range, keeps its direction and does not go past its last element. For example, {@code new
+   * IntRange(1, 10).step(3)} contains the elements 1, 4, 7 and 10.
+   *
+   * @param newStep the new step, must be positive
+   * @return a range with the given step
+   * @throws IllegalArgumentException if {@code newStep} is not positive
+   */
+  public IntRange step(int newStep) {
+    if (newStep <= 0) {
+      throw new IllegalArgumentException("Step must be positive, was: " + newStep);
+    }
+    if (size == 0) {
+      return EMPTY;
+    }
+    int signed = delta < 0 ? -newStep : newStep;
+    return of(
+        origin,
+        signed,
+        Progressions.closedSize(origin, (int) (origin + (size - 1) * delta), signed));
+  }
+
+  /**
+   * Returns a view of the leading elements of this range which come before {@code bound} in the
+   * direction of the range: the elements less than {@code bound} for an increasing range, and the
+   * elements greater than {@code bound} for a decreasing one.
+   *
+   * @param bound the bound to stop at (exclusive)
+   * @return a prefix of this range
+   */
+  public IntRange until(int bound) {
+    return slice(0, Progressions.countBefore(origin, delta, size, bound));
+  }
+
+  /**
+   * Returns the elements that are in both this range and {@code other}. The result is computed from
+   * the bounds and steps of both ranges and keeps the direction of this range. If the steps differ,
+   * the result is stepped by their least common multiple.
+   *
+   * @param other the range to intersect with
+   * @return the common elements, or {@link #EMPTY} if there are none
+   * @throws ArithmeticException if the step of the result is out of range for {@code int}
+   */
+  public IntRange intersect(IntRange other) {
+    return fromBounds(Progressions.intersect(bounds(), other.bounds()));
+  }
+
+  /**
+   * Checks if this range and {@code other} have at least one element in common.
+   *
+   * @param other the range to check
+   * @return {@code true} if the ranges share an element, {@code false} otherwise
+   */
+  public boolean overlaps(IntRange other) {
+    return Progressions.intersect(bounds(), other.bounds()) != null;
+  }
+
+  /**
+   * Returns the elements of this range that are not in {@code other}, as a list of ranges in the
+   * direction of this range. Removing a block of consecutive elements leaves at most two ranges. If
+   * {@code other} removes every n-th element instead, the elements kept between the removed ones
+   * are returned either as one range for each of the {@code n - 1} positions between two removed
+   * elements, or as one range for each gap between them, whichever gives fewer ranges.
+   *
+   * @param other the range to subtract
+   * @return the remaining elements, as a list of ranges
+   * @throws IllegalArgumentException if the result would have more than 1048576 ranges
+   */
+  public List<IntRange> subtract(IntRange other) {
+    var parts = Progressions.subtract(bounds(), other.bounds());
+    List<IntRange> result = new ArrayList<>(parts.size());
+    for (var part : parts) {
+      result.add(fromBounds(part));
+    }
+    if (delta < 0) {
+      Collections.reverse(result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the union of this range and {@code other}, if the union is itself a range. This is the
+   * case when one range contains the other, or when both have the same step, are aligned to each
+   * other and overlap or are adjacent. The result keeps the direction of this range.
+   *
+   * @param other the range to merge with
+   * @return the union of the ranges, or an empty {@link Optional} if it is not a single range
+   */
+  public Optional<IntRange> unionIfContiguous(IntRange other) {
+    if (isEmpty()) {
+      return Optional.of(other);
+    }
+    if (other.isEmpty()) {
+      return Optional.of(this);
+    }
+    var union = Progressions.union(bounds(), other.bounds());
+    return union == null ? Optional.empty() : Optional.of(fromBounds(union));
+  }
+
+  @Override
+  public List<IntRange> chunked(long size) {
+    return RangeSlices.chunked(this.size, size, this::slice);
+  }
+
+  @Override
+  public List<IntRange> split(int parts) {
+    return RangeSlices.split(size, parts, this::slice);
+  }
+
+  /**
+   * Returns one of {@code count} contiguous shards of this range. The shards are consecutive parts
+   * whose sizes differ by at most one, as returned by {@link #split(int)}, and are computed in
+   * constant time.
+   *
+   * @param index index of the shard, between {@code 0} and {@code count - 1}
+   * @param count number of shards
+   * @return the elements of the shard, in the direction of this range
+   * @throws IllegalArgumentException if {@code count} is not positive
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@code count}
+   */
+  public IntRange shard(int index, int count) {
+    Sharding.checkShard(index, count);
+    return split(count).get(index);
+  }
+
+  /**
+   * Returns one of {@code count} interleaved shards of this range. Shard {@code index} takes every
+   * {@code count}-th element, starting with the element at position {@code index}, so it is itself
+   * a range with a step {@code count} times larger than this range.
+   *
+   * @param index index of the shard, between {@code 0} and {@code count - 1}
+   * @param count number of shards
+   * @return the elements of the shard, in the direction of this range
+   * @throws IllegalArgumentException if {@code count} is not positive
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@code count}
+   * @throws ArithmeticException if the step of the shard is out of range for {@code int}
+   */
+  public IntRange stridedShard(int index, int count) {
+    Sharding.checkShard(index, count);
+    long shardSize = Sharding.stridedSize(size, index, count);
+    if (shardSize == 0) {
+      return EMPTY;
+    }
+    int step = shardSize == 1 ? Math.abs(delta) : Math.multiplyExact(Math.abs(delta), count);
+    int first = origin + index * delta;
+    return of(first, delta > 0 ? step : -step, shardSize);
+  }
+
+  /**
+   * Returns the blocks of this range which are assigned to a shard by jump consistent hashing. The
+   * range is cut into blocks of {@code blockSize} elements, as returned by {@link #chunked(long)},
+   * and each block is assigned to a shard by hashing its position. When the number of shards
+   * changes from {@code n} to {@code n + 1}, only about {@code 1 / (n + 1)} of the blocks move to
+   * another shard.
+   *
+   * @param index index of the shard, between {@code 0} and {@code count - 1}
+   * @param count number of shards
+   * @param blockSize number of elements in each block
+   * @return the blocks assigned to the shard, in the order of this range
+   * @throws IllegalArgumentException if {@code count} or {@code blockSize} is not positive, or the
+   *     range would be cut into more than {@link Integer#MAX_VALUE} blocks
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@code count}
+   */
+  public List<IntRange> consistentShard(int index, int count, long blockSize) {
+    return Sharding.consistentBlocks(chunked(blockSize), index, count);
+  }
+
+  /**
+   * Returns the shard which owns a value under {@link #consistentShard(int, int, long)}. The owner
+   * is computed in constant time from the position of the value in the range.
+   *
+   * @param value value to look up
+   * @param count number of shards
+   * @param blockSize number of elements in each block
+   * @return index of the owning shard, or {@code -1} if the range does not contain the value
+   * @throws IllegalArgumentException if {@code count} or {@code blockSize} is not positive
+   */
+  public int consistentShardOf(int value, int count, long blockSize) {
+    Sharding.checkShard(0, count);
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be positive, was: " + blockSize);
+    }
+    long position = indexOf(value);
+    return position < 0 ? -1 : Sharding.jumpHash(position / blockSize, count);
+  }
+
+  /**
+   * Creates a sub-range from a half-open interval of element indices, with the same step and
+   * direction as this range.
+   *
+   * @param fromIndex index of the first element (inclusive)
+   * @param toIndex index of the last element (exclusive)
+   * @return the sub-range
+   */
+  private IntRange slice(long fromIndex, long toIndex) {
+    if (fromIndex >= toIndex) {
+      return EMPTY;
+    }
+    int first = origin + (int) fromIndex * delta;
+    return of(first, delta, toIndex - fromIndex);
+  }
+
+  /**
+   * Returns the normalized form of this range.
+   *
+   * @return normalized progression, or {@code null} if the range is empty
+   */
+  Progressions.Bounds bounds() {
+    return Progressions.Bounds.of(origin, delta, size);
+  }
+
+  /**
+   * Creates a range from a normalized progression, in the direction of this range.
+   *
+   * @param bounds normalized progression, or {@code null} for an empty range
+   * @return a new range
+   */
+  private IntRange fromBounds(Progressions.Bounds bounds) {
+    if (bounds == null) {
+      return EMPTY;
+    }
+    var step = (int) Progressions.checkStep(bounds, Math.abs(delta), Integer.MAX_VALUE);
+    var min = (int) bounds.min();
+    var max = (int) bounds.max();
+    return delta > 0 ? of(min, step, bounds.size()) : of(max, -step, bounds.size());
+  }
+
+  @Override
+  Integer valueAt(long index) {
+    return origin + (int) index * delta;
+  }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * A set of {@code int} values stored as a sorted list of disjoint intervals. This is the {@code
+ * int} counterpart of {@link LongRangeSet}: overlapping and adjacent intervals are merged when they
+ * are added, and membership queries use binary search.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class IntRangeSet {
+
+  private final LongRangeSet values;
+
+  /** Creates an empty set. */
+  public IntRangeSet() {
+    this(new LongRangeSet());
+  }
+
+  private IntRangeSet(LongRangeSet values) {
+    this.values = values;
+  }
+
+  /**
+   * Creates a set containing all values of the given ranges.
+   *
+   * @param ranges ranges to add to the set
+   * @return a new set
+   * @throws IllegalArgumentException if any of the ranges has a step other than 1
+   */
+  public static IntRangeSet of(IntRange... ranges) {
+    var set = new IntRangeSet();
+    for (var range : ranges) {
+      set.add(range);
+    }
+    return set;
+  }
+
+  /**
+   * Adds all values of the given range to the set. Only ranges of consecutive values can be added.
+   *
+   * @param range range to add
+   * @throws IllegalArgumentException if the range has more than one element and a step other than 1
+   */
+  public void add(IntRange range) {
+    var bounds = Progressions.requireUnitStep(range.bounds());
+    if (bounds != null) {
+      values.add(bounds.min(), bounds.max());
+    }
+  }
+
+  /**
+   * Adds all values between {@code from} and {@code toInclusive} to the set. The interval is merged
+   * with all intervals it overlaps or is adjacent to.
+   *
+   * @param from smallest value to add
+   * @param toInclusive largest value to add
+   * @throws IllegalArgumentException if {@code from} is greater than {@code toInclusive}
+   */
+  public void add(int from, int toInclusive) {
+    values.add(from, toInclusive);
+  }
+
+  /**
+   * Removes all values of the given range from the set. Only ranges of consecutive values can be
+   * removed.
+   *
+   * @param range range to remove
+   * @throws IllegalArgumentException if the range has more than one element and a step other than 1
+   */
+  public void remove(IntRange range) {
+    var bounds = Progressions.requireUnitStep(range.bounds());
+    if (bounds != null) {
+      values.remove(bounds.min(), bounds.max());
+    }
+  }
+
+  /**
+   * Removes all values between {@code from} and {@code toInclusive} from the set. Intervals that
+   * partially overlap the removed interval are trimmed or split.
+   *
+   * @param from smallest value to remove
+   * @param toInclusive largest value to remove
+   * @throws IllegalArgumentException if {@code from} is greater than {@code toInclusive}
+   */
+  public void remove(int from, int toInclusive) {
+    values.remove(from, toInclusive);
+  }
+
+  /**
+   * Adds all values of another set to this set. Both sets are merged in a single pass over their
+   * intervals.
+   *
+   * @param other set whose values to add
+   */
+  public void addAll(IntRangeSet other) {
+    values.addAll(other.values);
+  }
+
+  /**
+   * Removes all values of another set from this set. Both sets are processed in a single pass over
+   * their intervals.
+   *
+   * @param other set whose values to remove
+   */
+  public void removeAll(IntRangeSet other) {
+    values.removeAll(other.values);
+  }
+
+  /**
+   * Checks if the set contains the given value.
+   *
+   * @param value value to check
+   * @return {@code true} if the value is in the set, {@code false} otherwise
+   */
+  public boolean contains(int value) {
+    return values.contains(value);
+  }
+
+  /**
+   * Returns the smallest value in the set that is greater than or equal to the given value.
+   *
+   * @param value value to start from
+   * @return the next value in the set, or an empty {@link OptionalInt} if there is none
+   */
+  public OptionalInt nextIncluded(int value) {
+    var next = values.nextIncluded(value);
+    return next.isPresent() ? OptionalInt.of((int) next.getAsLong()) : OptionalInt.empty();
+  }
+
+  /**
+   * Returns the number of values in the set.
+   *
+   * @return the number of values
+   */
+  public long cardinality() {
+    return values.cardinality();
+  }
+
+  /**
+   * Returns the number of disjoint intervals in the set.
+   *
+   * @return the number of intervals
+   */
+  public int rangeCount() {
+    return values.rangeCount();
+  }
+
+  /**
+   * Checks if the set has no values.
+   *
+   * @return {@code true} if the set is empty, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return values.isEmpty();
+  }
+
+  /**
+   * Returns the disjoint intervals of the set as ranges, in ascending order.
+   *
+   * @return a list of increasing ranges with a step of 1
+   */
+  public List<IntRange> asRanges() {
+    int count = values.rangeCount();
+    List<IntRange> ranges = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ranges.add(new IntRange((int) values.startAt(i), (int) values.endAt(i)));
+    }
+    return ranges;
+  }
+
+  /**
+   * Returns a copy of this set.
+   *
+   * @return a new set with the same values
+   */
+  public IntRangeSet copy() {
+    return new IntRangeSet(values.copy());
+  }
+}
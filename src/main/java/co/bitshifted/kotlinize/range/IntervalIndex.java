@@ -0,0 +1,288 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An immutable index of possibly overlapping intervals, each with an attached payload. The index
+ * answers stabbing queries (which intervals contain a point) and overlap queries (which intervals
+ * intersect a query interval) in {@code O(log n + k)} time, where {@code k} is the number of
+ * matching intervals.
+ *
+ * <p>Intervals are kept sorted by their start in parallel arrays, which form an implicit balanced
+ * binary search tree: the middle element of each slice is the root of that slice. Every node also
+ * stores the largest end in its subtree, so whole subtrees that end before the query can be
+ * skipped. Building the index takes a single sort.
+ *
+ * <p>A range is indexed as the closed interval between its smallest and largest element, so the
+ * step of the range is not taken into account.
+ *
+ * @param <V> the type of the payloads
+ */
+public final class IntervalIndex<V> {
+
+  private final long[] starts;
+  private final long[] ends;
+  private final Object[] payloads;
+
+  /** Largest end of all intervals in the subtree rooted at each position. */
+  private final long[] maxEnds;
+
+  private IntervalIndex(long[] starts, long[] ends, Object[] payloads) {
+    this.starts = starts;
+    this.ends = ends;
+    this.payloads = payloads;
+    this.maxEnds = new long[starts.length];
+    computeMaxEnds(0, starts.length);
+  }
+
+  /**
+   * Creates a builder for a new index.
+   *
+   * @param <V> the type of the payloads
+   * @return a new builder
+   */
+  public static <V> Builder<V> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Returns the number of intervals in the index.
+   *
+   * @return the number of intervals
+   */
+  public int size() {
+    return starts.length;
+  }
+
+  /**
+   * Returns the payloads of all intervals that contain the given point.
+   *
+   * @param point point to look up
+   * @return payloads of the matching intervals, in ascending order of interval start
+   */
+  public List<V> containing(long point) {
+    return overlapping(point, point);
+  }
+
+  /**
+   * Returns the payloads of all intervals that overlap the given range.
+   *
+   * @param range range to look up
+   * @return payloads of the matching intervals, in ascending order of interval start
+   */
+  public List<V> overlapping(LongRange range) {
+    var bounds = range.bounds();
+    return bounds == null ? List.of() : overlapping(bounds.min(), bounds.max());
+  }
+
+  /**
+   * Returns the payloads of all intervals that overlap the interval between {@code from} and {@code
+   * toInclusive}.
+   *
+   * @param from start of the query interval
+   * @param toInclusive end of the query interval (inclusive)
+   * @return payloads of the matching intervals, in ascending order of interval start
+   */
+  public List<V> overlapping(long from, long toInclusive) {
+    List<V> result = new ArrayList<>();
+    forEachOverlapping(from, toInclusive, result::add);
+    return result;
+  }
+
+  /**
+   * Performs the given action for the payload of each interval that contains the given point.
+   *
+   * @param point point to look up
+   * @param action action to perform on each matching payload
+   */
+  public void forEachContaining(long point, Consumer<? super V> action) {
+    forEachOverlapping(point, point, action);
+  }
+
+  /**
+   * Performs the given action for the payload of each interval that overlaps the interval between
+   * {@code from} and {@code toInclusive}. Payloads are visited in ascending order of interval
+   * start.
+   *
+   * @param from start of the query interval
+   * @param toInclusive end of the query interval (inclusive)
+   * @param action action to perform on each matching payload
+   */
+  public void forEachOverlapping(long from, long toInclusive, Consumer<? super V> action) {
+    if (from <= toInclusive) {
+      visit(0, starts.length, from, toInclusive, action);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void visit(int low, int high, long from, long to, Consumer<? super V> action) {
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (maxEnds[mid] < from) {
+        return;
+      }
+      visit(low, mid, from, to, action);
+      if (starts[mid] > to) {
+        return;
+      }
+      if (ends[mid] >= from) {
+        action.accept((V) payloads[mid]);
+      }
+      low = mid + 1;
+    }
+  }
+
+  private long computeMaxEnds(int low, int high) {
+    if (low >= high) {
+      return Long.MIN_VALUE;
+    }
+    int mid = (low + high) >>> 1;
+    long max = Math.max(ends[mid], computeMaxEnds(low, mid));
+    maxEnds[mid] = Math.max(max, computeMaxEnds(mid + 1, high));
+    return maxEnds[mid];
+  }
+
+  /**
+   * Builder for {@link IntervalIndex}. Intervals are collected in primitive arrays and sorted once
+   * when the index is built.
+   *
+   * @param <V> the type of the payloads
+   */
+  public static final class Builder<V> {
+
+    private long[] starts = new long[16];
+    private long[] ends = new long[16];
+    private Object[] payloads = new Object[16];
+    private int count;
+
+    private Builder() {}
+
+    /**
+     * Adds a range with its payload. Empty ranges are ignored.
+     *
+     * @param range range to add
+     * @param payload payload attached to the range
+     * @return this builder
+     */
+    public Builder<V> add(LongRange range, V payload) {
+      var bounds = range.bounds();
+      return bounds == null ? this : add(bounds.min(), bounds.max(), payload);
+    }
+
+    /**
+     * Adds a range with its payload. Empty ranges are ignored.
+     *
+     * @param range range to add
+     * @param payload payload attached to the range
+     * @return this builder
+     */
+    public Builder<V> add(IntRange range, V payload) {
+      var bounds = range.bounds();
+      return bounds == null ? this : add(bounds.min(), bounds.max(), payload);
+    }
+
+    /**
+     * Adds the interval between {@code from} and {@code toInclusive} with its payload.
+     *
+     * @param from start of the interval
+     * @param toInclusive end of the interval (inclusive)
+     * @param payload payload attached to the interval
+     * @return this builder
+     * @throws IllegalArgumentException if {@code from} is greater than {@code toInclusive}
+     */
+    public Builder<V> add(long from, long toInclusive, V payload) {
+      if (from > toInclusive) {
+        throw new IllegalArgumentException(
+            "Interval start " + from + " is greater than end " + toInclusive);
+      }
+      if (count == starts.length) {
+        int capacity = count * 2;
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        payloads = Arrays.copyOf(payloads, capacity);
+      }
+      starts[count] = from;
+      ends[count] = toInclusive;
+      payloads[count++] = payload;
+      return this;
+    }
+
+    /**
+     * Builds the index. The builder can be reused afterwards; the index does not share state with
+     * it.
+     *
+     * @return a new index
+     */
+    public IntervalIndex<V> build() {
+      long[] sortedStarts = Arrays.copyOf(starts, count);
+      long[] sortedEnds = Arrays.copyOf(ends, count);
+      Object[] sortedPayloads = Arrays.copyOf(payloads, count);
+      sort(sortedStarts, sortedEnds, sortedPayloads, 0, count - 1);
+      return new IntervalIndex<>(sortedStarts, sortedEnds, sortedPayloads);
+    }
+
+    /** Sorts the parallel arrays by start using quicksort, recursing into the smaller part. */
+    private static void sort(long[] keys, long[] ends, Object[] payloads, int low, int high) {
+      while (high - low > 16) {
+        int mid = (low + high) >>> 1;
+        if (keys[mid] < keys[low]) {
+          swap(keys, ends, payloads, mid, low);
+        }
+        if (keys[high] < keys[low]) {
+          swap(keys, ends, payloads, high, low);
+        }
+        if (keys[high] < keys[mid]) {
+          swap(keys, ends, payloads, high, mid);
+        }
+        long pivot = keys[mid];
+        int i = low;
+        int j = high;
+        while (i <= j) {
+          while (keys[i] < pivot) {
+            i++;
+          }
+          while (keys[j] > pivot) {
+            j--;
+          }
+          if (i <= j) {
+            swap(keys, ends, payloads, i++, j--);
+          }
+        }
+        if (j - low < high - i) {
+          sort(keys, ends, payloads, low, j);
+          low = i;
+        } else {
+          sort(keys, ends, payloads, i, high);
+          high = j;
+        }
+      }
+      for (int i = low + 1; i <= high; i++) {
+        for (int j = i; j > low && keys[j] < keys[j - 1]; j--) {
+          swap(keys, ends, payloads, j, j - 1);
+        }
+      }
+    }
+
+    private static void swap(long[] keys, long[] ends, Object[] payloads, int i, int j) {
+      long key = keys[i];
+      keys[i] = keys[j];
+      keys[j] = key;
+      long end = ends[i];
+      ends[i] = ends[j];
+      ends[j] = end;
+      Object payload = payloads[i];
+      payloads[i] = payloads[j];
+      payloads[j] = payload;
+    }
+  }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A range of {@link LocalDate} values, from a start date to an end date (inclusive), separated by a
+ * fixed {@link Period}. The range is always increasing.
+ *
+ * <p>Each element is computed as {@code start + index * step}, instead of adding the step to the
+ * previous element. This matters for steps with months: a monthly range starting on January 31
+ * contains February 28 (or 29) and March 31, rather than drifting to the 28th of every following
+ * month. The index of a date is estimated from the average length of the step and then corrected by
+ * at most a few steps, so {@link #indexOf(LocalDate)} and {@link #bucketOf(LocalDate)} take
+ * constant time.
+ */
+public final class LocalDateRange implements Iterable<LocalDate> {
+
+  /** An empty {@code LocalDateRange}. */
+  public static final LocalDateRange EMPTY =
+      new LocalDateRange(LocalDate.EPOCH, Period.ofDays(1), 0, 0);
+
+  /** Number of days in 400 years, which is also 4800 months. */
+  private static final long DAYS_PER_4800_MONTHS = 146_097;
+
+  /** The element at index 0 of the progression this range was cut from. */
+  private final LocalDate base;
+
+  private final Period step;
+
+  /** Index of the first element of this range in the progression it was cut from. */
+  private final long offset;
+
+  private final long size;
+
+  /** Total number of months in the step. */
+  private final long months;
+
+  /** Number of days in the step. */
+  private final int days;
+
+  private LocalDateRange(LocalDate base, Period step, long offset, long size) {
+    this.base = base;
+    this.step = step;
+    this.offset = offset;
+    this.size = size;
+    this.months = step.toTotalMonths();
+    this.days = step.getDays();
+  }
+
+  /**
+   * Creates a new {@code LocalDateRange}. The range includes all elements of the progression from
+   * {@code start} which are not after {@code endInclusive}. If {@code start} is after {@code
+   * endInclusive}, the range is empty.
+   *
+   * @param start the first date of the range
+   * @param endInclusive the ending date of the range (inclusive)
+   * @param step the period between two consecutive dates
+   * @throws IllegalArgumentException if {@code step} is zero or has a negative component
+   */
+  public LocalDateRange(LocalDate start, LocalDate endInclusive, Period step) {
+    this(start, step, 0, sizeOf(start, endInclusive, checkStep(step)));
+  }
+
+  private static long sizeOf(LocalDate start, LocalDate endInclusive, Period step) {
+    if (start.isAfter(endInclusive)) {
+      return 0;
+    }
+    return new LocalDateRange(start, step, 0, 0).floorIndex(endInclusive) + 1;
+  }
+
+  /**
+   * Creates a new {@code LocalDateRange} with the given number of elements.
+   *
+   * @param start the first date of the range
+   * @param step the period between two consecutive dates
+   * @param count the number of elements in the range
+   * @return a new range
+   * @throws IllegalArgumentException if {@code step} is zero or has a negative component, or {@code
+   *     count} is negative
+   * @throws DateTimeException if the last element would be after {@link LocalDate#MAX}
+   */
+  public static LocalDateRange ofCount(LocalDate start, Period step, long count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("Count must not be negative, was: " + count);
+    }
+    var range = new LocalDateRange(Objects.requireNonNull(start), checkStep(step), 0, count);
+    if (count > 0) {
+      range.valueAt(count - 1);
+    }
+    return range;
+  }
+
+  private static Period checkStep(Period step) {
+    if (step.isNegative() || step.isZero()) {
+      throw new IllegalArgumentException("Step must be positive, was: " + step);
+    }
+    return step;
+  }
+
+  /**
+   * Gets the start date of the range.
+   *
+   * @return the start date
+   */
+  public LocalDate start() {
+    return compute(offset);
+  }
+
+  /**
+   * Gets the period between two consecutive elements.
+   *
+   * @return the step
+   */
+  public Period step() {
+    return step;
+  }
+
+  /**
+   * Gets the first element in the range.
+   *
+   * @return the first element
+   * @throws NoSuchElementException if the range is empty
+   */
+  public LocalDate first() {
+    if (size == 0) {
+      throw new NoSuchElementException("Range is empty");
+    }
+    return valueAt(0);
+  }
+
+  /**
+   * Gets the last element in the range.
+   *
+   * @return the last element
+   * @throws NoSuchElementException if the range is empty
+   */
+  public LocalDate last() {
+    if (size == 0) {
+      throw new NoSuchElementException("Range is empty");
+    }
+    return valueAt(size - 1);
+  }
+
+  /**
+   * Checks if the range has no elements.
+   *
+   * @return {@code true} if the range is empty, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the count of elements in the range.
+   *
+   * @return the number of elements
+   * @throws ArithmeticException if the range has more than {@link Integer#MAX_VALUE} elements
+   */
+  public int count() {
+    return Math.toIntExact(size);
+  }
+
+  /**
+   * Returns the count of elements in the range as a {@code long}.
+   *
+   * @return the number of elements
+   */
+  public long longCount() {
+    return size;
+  }
+
+  /**
+   * Returns the element at the specified index. The element is computed from the start and step,
+   * without iterating over the elements.
+   *
+   * @param index zero-based index of the element
+   * @return the element at the given index
+   * @throws IndexOutOfBoundsException if the index is negative or not less than {@link
+   *     #longCount()}
+   */
+  public LocalDate elementAt(long index) {
+    return valueAt(Objects.checkIndex(index, size));
+  }
+
+  /**
+   * Returns the index of the specified date in the range.
+   *
+   * @param date the date to look for
+   * @return the zero-based index of the date, or {@code -1} if the range does not contain it
+   */
+  public long indexOf(LocalDate date) {
+    long index = bucketOf(date);
+    return index >= 0 && valueAt(index).equals(date) ? index : -1;
+  }
+
+  /**
+   * Checks if the range contains the specified date.
+   *
+   * @param date the date to check for
+   * @return {@code true} if the date is in the range, {@code false} otherwise
+   */
+  public boolean contains(LocalDate date) {
+    return indexOf(date) >= 0;
+  }
+
+  /**
+   * Returns the index of the period which contains the specified date. The period of the element at
+   * index {@code i} starts at that element (inclusive) and ends at the next element of the
+   * progression (exclusive), so the period of the last element ends one step after it.
+   *
+   * @param date the date to look up
+   * @return the zero-based index of the period, or {@code -1} if the date is outside all periods
+   */
+  public long bucketOf(LocalDate date) {
+    long index = floorIndex(date) - offset;
+    return index >= 0 && index < size ? index : -1;
+  }
+
+  /**
+   * Cuts the range into consecutive chunks of the given size. The last chunk may be smaller. Each
+   * chunk computes its elements from the start of this range, so it contains exactly the same
+   * dates. The returned list is lazy: chunks are created only when they are accessed.
+   *
+   * @param size number of elements in each chunk
+   * @return a list of chunks
+   * @throws IllegalArgumentException if {@code size} is not positive, or the range would be cut
+   *     into more than {@link Integer#MAX_VALUE} chunks
+   */
+  public List<LocalDateRange> chunked(long size) {
+    return RangeSlices.chunked(this.size, size, this::slice);
+  }
+
+  /**
+   * Splits the range into the given number of consecutive parts whose sizes differ by at most one.
+   * The returned list is lazy: parts are created only when they are accessed.
+   *
+   * @param parts number of parts
+   * @return a list of exactly {@code parts} ranges
+   * @throws IllegalArgumentException if {@code parts} is not positive
+   */
+  public List<LocalDateRange> split(int parts) {
+    return RangeSlices.split(size, parts, this::slice);
+  }
+
+  /**
+   * Returns a sequential {@link Stream} of the range elements.
+   *
+   * @return a sequential stream of the range elements
+   */
+  public Stream<LocalDate> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Returns a parallel {@link Stream} of the range elements.
+   *
+   * @return a parallel stream of the range elements
+   */
+  public Stream<LocalDate> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  /**
+   * Returns a {@link Spliterator} over the range elements. The spliterator knows its exact size and
+   * splits the range exactly in half by index.
+   *
+   * @return a {@link Spliterator} for the range elements
+   */
+  @Override
+  public Spliterator<LocalDate> spliterator() {
+    return new IndexSpliterator<>(this::valueAt, 0, size);
+  }
+
+  /**
+   * Returns an iterator over the elements in the range.
+   *
+   * @return an {@link Iterator} for the range elements
+   */
+  @Override
+  public Iterator<LocalDate> iterator() {
+    return Spliterators.iterator(spliterator());
+  }
+
+  private LocalDate valueAt(long index) {
+    return compute(offset + index);
+  }
+
+  /** Computes the element at the given index of the progression this range was cut from. */
+  private LocalDate compute(long index) {
+    return base.plusMonths(index * months).plusDays(index * days);
+  }
+
+  /**
+   * Finds the last element of the progression which is not after the given date. The index is first
+   * estimated from the average length of the step, which is exact over 400 years, and then
+   * corrected by stepping.
+   *
+   * @param date date to look up
+   * @return index of the element in the progression, or {@code -1} if the date is before its start
+   */
+  private long floorIndex(LocalDate date) {
+    if (date.isBefore(base)) {
+      return -1;
+    }
+    long elapsed = date.toEpochDay() - base.toEpochDay();
+    long index = elapsed * 4800 / (months * DAYS_PER_4800_MONTHS + days * 4800L);
+    while (index > 0 && isAfter(index, date)) {
+      index--;
+    }
+    while (!isAfter(index + 1, date)) {
+      index++;
+    }
+    return index;
+  }
+
+  /** Checks if the element at the given index of the progression is after the given date. */
+  private boolean isAfter(long index, LocalDate date) {
+    try {
+      return compute(index).isAfter(date);
+    } catch (DateTimeException | ArithmeticException e) {
+      return true;
+    }
+  }
+
+  private LocalDateRange slice(long fromIndex, long toIndex) {
+    return fromIndex >= toIndex
+        ? EMPTY
+        : new LocalDateRange(base, step, offset + fromIndex, toIndex - fromIndex);
+  }
+}
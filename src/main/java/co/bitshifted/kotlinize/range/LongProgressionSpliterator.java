@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * A primitive spliterator over an arithmetic progression of {@code long} values. The progression is
+ * split exactly in half by index, so parallel work is evenly balanced.
+ */
+final class LongProgressionSpliterator implements Spliterator.OfLong {
+
+  private final long first;
+  private final long delta;
+  private long origin;
+  private final long fence;
+
+  /**
+   * Creates a new spliterator.
+   *
+   * @param first element at index 0 of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param origin first index (inclusive)
+   * @param fence last index (exclusive)
+   */
+  LongProgressionSpliterator(long first, long delta, long origin, long fence) {
+    this.first = first;
+    this.delta = delta;
+    this.origin = origin;
+    this.fence = fence;
+  }
+
+  @Override
+  public boolean tryAdvance(LongConsumer action) {
+    if (origin < fence) {
+      action.accept(first + origin * delta);
+      origin++;
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(LongConsumer action) {
+    long value = first + origin * delta;
+    for (long i = origin; i < fence; i++) {
+      action.accept(value);
+      value += delta;
+    }
+    origin = fence;
+  }
+
+  @Override
+  public OfLong trySplit() {
+    long mid = (origin + fence) >>> 1;
+    if (mid <= origin) {
+      return null;
+    }
+    var prefix = new LongProgressionSpliterator(first, delta, origin, mid);
+    origin = mid;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return fence - origin;
+  }
+
+  @Override
+  public int characteristics() {
+    return IndexSpliterator.CHARACTERISTICS;
+  }
+}
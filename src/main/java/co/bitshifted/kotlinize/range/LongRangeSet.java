@@ -0,0 +1,385 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * A set of {@code long} values stored as a sorted list of disjoint intervals. Overlapping and
+ * adjacent intervals are merged when they are added, so the set always holds the smallest possible
+ * number of intervals. Interval bounds are kept in parallel primitive arrays, and membership
+ * queries use binary search.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class LongRangeSet {
+
+  private static final int DEFAULT_CAPACITY = 8;
+
+  private long[] starts;
+  private long[] ends;
+  private int count;
+
+  /** Number of values in the set, or {@code -1} if it does not fit in a {@code long}. */
+  private long cardinality;
+
+  /** Creates an empty set. */
+  public LongRangeSet() {
+    this.starts = new long[DEFAULT_CAPACITY];
+    this.ends = new long[DEFAULT_CAPACITY];
+  }
+
+  private LongRangeSet(long[] starts, long[] ends, int count) {
+    this.starts = starts;
+    this.ends = ends;
+    this.count = count;
+    updateCardinality();
+  }
+
+  /**
+   * Creates a set containing all values of the given ranges.
+   *
+   * @param ranges ranges to add to the set
+   * @return a new set
+   * @throws IllegalArgumentException if any of the ranges has a step other than 1
+   */
+  public static LongRangeSet of(LongRange... ranges) {
+    var set = new LongRangeSet();
+    for (var range : ranges) {
+      set.add(range);
+    }
+    return set;
+  }
+
+  /**
+   * Adds all values of the given range to the set. Only ranges of consecutive values can be added.
+   *
+   * @param range range to add
+   * @throws IllegalArgumentException if the range has more than one element and a step other than 1
+   */
+  public void add(LongRange range) {
+    var bounds = Progressions.requireUnitStep(range.bounds());
+    if (bounds != null) {
+      add(bounds.min(), bounds.max());
+    }
+  }
+
+  /**
+   * Adds all values between {@code from} and {@code toInclusive} to the set. The interval is merged
+   * with all intervals it overlaps or is adjacent to.
+   *
+   * @param from smallest value to add
+   * @param toInclusive largest value to add
+   * @throws IllegalArgumentException if {@code from} is greater than {@code toInclusive}
+   */
+  public void add(long from, long toInclusive) {
+    checkInterval(from, toInclusive);
+    int first = floorIndex(from);
+    if (first < 0 || from != Long.MIN_VALUE && ends[first] < from - 1) {
+      first++;
+    }
+    int last = toInclusive == Long.MAX_VALUE ? count - 1 : floorIndex(toInclusive + 1);
+    if (last < first) {
+      splice(first, last, 1);
+      starts[first] = from;
+      ends[first] = toInclusive;
+    } else {
+      long start = Math.min(from, starts[first]);
+      long end = Math.max(toInclusive, ends[last]);
+      splice(first, last, 1);
+      starts[first] = start;
+      ends[first] = end;
+    }
+    updateCardinality();
+  }
+
+  /**
+   * Removes all values of the given range from the set. Only ranges of consecutive values can be
+   * removed.
+   *
+   * @param range range to remove
+   * @throws IllegalArgumentException if the range has more than one element and a step other than 1
+   */
+  public void remove(LongRange range) {
+    var bounds = Progressions.requireUnitStep(range.bounds());
+    if (bounds != null) {
+      remove(bounds.min(), bounds.max());
+    }
+  }
+
+  /**
+   * Removes all values between {@code from} and {@code toInclusive} from the set. Intervals that
+   * partially overlap the removed interval are trimmed or split.
+   *
+   * @param from smallest value to remove
+   * @param toInclusive largest value to remove
+   * @throws IllegalArgumentException if {@code from} is greater than {@code toInclusive}
+   */
+  public void remove(long from, long toInclusive) {
+    checkInterval(from, toInclusive);
+    int first = floorIndex(from);
+    if (first < 0 || ends[first] < from) {
+      first++;
+    }
+    int last = floorIndex(toInclusive);
+    if (last < first) {
+      return;
+    }
+    boolean keepLeft = starts[first] < from;
+    boolean keepRight = ends[last] > toInclusive;
+    long leftStart = starts[first];
+    long rightEnd = ends[last];
+    splice(first, last, (keepLeft ? 1 : 0) + (keepRight ? 1 : 0));
+    int index = first;
+    if (keepLeft) {
+      starts[index] = leftStart;
+      ends[index] = from - 1;
+      index++;
+    }
+    if (keepRight) {
+      starts[index] = toInclusive + 1;
+      ends[index] = rightEnd;
+    }
+    updateCardinality();
+  }
+
+  /**
+   * Adds all values of another set to this set. Both sets are merged in a single pass over their
+   * intervals.
+   *
+   * @param other set whose values to add
+   */
+  public void addAll(LongRangeSet other) {
+    long[] mergedStarts = new long[Math.max(DEFAULT_CAPACITY, count + other.count)];
+    long[] mergedEnds = new long[mergedStarts.length];
+    int merged = 0;
+    int i = 0;
+    int j = 0;
+    while (i < count || j < other.count) {
+      long start;
+      long end;
+      if (j >= other.count || i < count && starts[i] <= other.starts[j]) {
+        start = starts[i];
+        end = ends[i++];
+      } else {
+        start = other.starts[j];
+        end = other.ends[j++];
+      }
+      if (merged > 0 && (start <= mergedEnds[merged - 1] || start - 1 == mergedEnds[merged - 1])) {
+        mergedEnds[merged - 1] = Math.max(mergedEnds[merged - 1], end);
+      } else {
+        mergedStarts[merged] = start;
+        mergedEnds[merged++] = end;
+      }
+    }
+    starts = mergedStarts;
+    ends = mergedEnds;
+    count = merged;
+    updateCardinality();
+  }
+
+  /**
+   * Removes all values of another set from this set. Both sets are processed in a single pass over
+   * their intervals.
+   *
+   * @param other set whose values to remove
+   */
+  public void removeAll(LongRangeSet other) {
+    long[] remainingStarts = new long[Math.max(DEFAULT_CAPACITY, count + other.count)];
+    long[] remainingEnds = new long[remainingStarts.length];
+    int remaining = 0;
+    int j = 0;
+    for (int i = 0; i < count; i++) {
+      long start = starts[i];
+      long end = ends[i];
+      while (j < other.count && other.ends[j] < start) {
+        j++;
+      }
+      boolean covered = false;
+      for (int k = j; k < other.count && other.starts[k] <= end; k++) {
+        if (other.starts[k] > start) {
+          remainingStarts[remaining] = start;
+          remainingEnds[remaining++] = other.starts[k] - 1;
+        }
+        if (other.ends[k] >= end) {
+          covered = true;
+          break;
+        }
+        start = other.ends[k] + 1;
+      }
+      if (!covered) {
+        remainingStarts[remaining] = start;
+        remainingEnds[remaining++] = end;
+      }
+    }
+    starts = remainingStarts;
+    ends = remainingEnds;
+    count = remaining;
+    updateCardinality();
+  }
+
+  /**
+   * Checks if the set contains the given value.
+   *
+   * @param value value to check
+   * @return {@code true} if the value is in the set, {@code false} otherwise
+   */
+  public boolean contains(long value) {
+    int index = floorIndex(value);
+    return index >= 0 && ends[index] >= value;
+  }
+
+  /**
+   * Returns the smallest value in the set that is greater than or equal to the given value.
+   *
+   * @param value value to start from
+   * @return the next value in the set, or an empty {@link OptionalLong} if there is none
+   */
+  public OptionalLong nextIncluded(long value) {
+    int index = floorIndex(value);
+    if (index >= 0 && ends[index] >= value) {
+      return OptionalLong.of(value);
+    }
+    return index + 1 < count ? OptionalLong.of(starts[index + 1]) : OptionalLong.empty();
+  }
+
+  /**
+   * Returns the number of values in the set.
+   *
+   * @return the number of values
+   * @throws ArithmeticException if the number of values does not fit in a {@code long}
+   */
+  public long cardinality() {
+    if (cardinality < 0) {
+      throw new ArithmeticException("Set has more than " + Long.MAX_VALUE + " values");
+    }
+    return cardinality;
+  }
+
+  /**
+   * Returns the number of disjoint intervals in the set.
+   *
+   * @return the number of intervals
+   */
+  public int rangeCount() {
+    return count;
+  }
+
+  /**
+   * Checks if the set has no values.
+   *
+   * @return {@code true} if the set is empty, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return count == 0;
+  }
+
+  /**
+   * Returns the disjoint intervals of the set as ranges, in ascending order.
+   *
+   * @return a list of increasing ranges with a step of 1
+   */
+  public List<LongRange> asRanges() {
+    List<LongRange> ranges = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ranges.add(new LongRange(starts[i], ends[i]));
+    }
+    return ranges;
+  }
+
+  /**
+   * Returns the smallest value of the interval at the given position.
+   *
+   * @param index position of the interval
+   * @return the smallest value of the interval
+   */
+  long startAt(int index) {
+    return starts[index];
+  }
+
+  /**
+   * Returns the largest value of the interval at the given position.
+   *
+   * @param index position of the interval
+   * @return the largest value of the interval
+   */
+  long endAt(int index) {
+    return ends[index];
+  }
+
+  /**
+   * Returns a copy of this set.
+   *
+   * @return a new set with the same values
+   */
+  public LongRangeSet copy() {
+    return new LongRangeSet(
+        Arrays.copyOf(starts, starts.length), Arrays.copyOf(ends, ends.length), count);
+  }
+
+  private static void checkInterval(long from, long toInclusive) {
+    if (from > toInclusive) {
+      throw new IllegalArgumentException(
+          "Interval start " + from + " is greater than end " + toInclusive);
+    }
+  }
+
+  /**
+   * Finds the last interval whose start is less than or equal to the given value.
+   *
+   * @param value value to look up
+   * @return index of the interval, or {@code -1} if there is none
+   */
+  private int floorIndex(long value) {
+    int low = 0;
+    int high = count - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (starts[mid] <= value) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return high;
+  }
+
+  /**
+   * Replaces the intervals from {@code first} to {@code last} (inclusive) with {@code replacement}
+   * uninitialized slots. If {@code last} is {@code first - 1}, the slots are inserted before {@code
+   * first}.
+   */
+  private void splice(int first, int last, int replacement) {
+    int newCount = count - (last - first + 1) + replacement;
+    if (newCount > starts.length) {
+      int capacity = Math.max(newCount, starts.length * 2);
+      starts = Arrays.copyOf(starts, capacity);
+      ends = Arrays.copyOf(ends, capacity);
+    }
+    int tail = count - last - 1;
+    System.arraycopy(starts, last + 1, starts, first + replacement, tail);
+    System.arraycopy(ends, last + 1, ends, first + replacement, tail);
+    count = newCount;
+  }
+
+  private void updateCardinality() {
+    long total = 0;
+    for (int i = 0; i < count; i++) {
+      long length = ends[i] - starts[i] + 1;
+      if (length <= 0 || total + length < 0) {
+        cardinality = -1;
+        return;
+      }
+      total += length;
+    }
+    cardinality = total;
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A range of values of any ordered type, from a start value (inclusive) up to, but not including,
+ * an end value. Like {@link ClosedRange}, an {@code OpenEndRange} only knows its bounds, and all
+ * operations take a constant number of comparisons. Consecutive open-ended ranges, such as {@code
+ * "a".."m"} and {@code "m".."z"}, do not overlap, which makes them suitable for partitioning a key
+ * space.
+ *
+ * @param <T> the type of the range bounds
+ * @see ClosedRange
+ */
+public final class OpenEndRange<T> {
+
+  private final T start;
+  private final T endExclusive;
+
+  /** Comparator of the values, or {@code null} for the natural ordering. */
+  private final Comparator<? super T> comparator;
+
+  private OpenEndRange(T start, T endExclusive, Comparator<? super T> comparator) {
+    this.start = Objects.requireNonNull(start);
+    this.endExclusive = Objects.requireNonNull(endExclusive);
+    this.comparator = comparator;
+  }
+
+  /**
+   * Creates a range of values ordered by their natural ordering. The range is empty if {@code
+   * start} is not less than {@code endExclusive}.
+   *
+   * @param start the start value of the range (inclusive)
+   * @param endExclusive the end value of the range (exclusive)
+   * @param <T> the type of the range bounds
+   * @return a new range
+   */
+  public static <T extends Comparable<? super T>> OpenEndRange<T> of(T start, T endExclusive) {
+    return new OpenEndRange<>(start, endExclusive, null);
+  }
+
+  /**
+   * Creates a range of values ordered by the given comparator. The range is empty if {@code start}
+   * is not less than {@code endExclusive}.
+   *
+   * @param start the start value of the range (inclusive)
+   * @param endExclusive the end value of the range (exclusive)
+   * @param comparator the comparator ordering the values
+   * @param <T> the type of the range bounds
+   * @return a new range
+   */
+  public static <T> OpenEndRange<T> of(T start, T endExclusive, Comparator<? super T> comparator) {
+    return new OpenEndRange<>(start, endExclusive, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Gets the start value of the range.
+   *
+   * @return the start value (inclusive)
+   */
+  public T start() {
+    return start;
+  }
+
+  /**
+   * Gets the end value of the range.
+   *
+   * @return the end value (exclusive)
+   */
+  public T endExclusive() {
+    return endExclusive;
+  }
+
+  /**
+   * Checks if the range contains the specified value.
+   *
+   * @param value the value to check for
+   * @return {@code true} if the value is not less than the start value and less than the end value,
+   *     {@code false} otherwise
+   */
+  public boolean contains(T value) {
+    return ClosedRange.compare(comparator, start, value) <= 0
+        && ClosedRange.compare(comparator, value, endExclusive) < 0;
+  }
+
+  /**
+   * Checks if the range has no values, which is the case when the start value is not less than the
+   * end value.
+   *
+   * @return {@code true} if the range is empty, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return ClosedRange.compare(comparator, start, endExclusive) >= 0;
+  }
+
+  /**
+   * Checks if this range has at least one value in common with another range.
+   *
+   * @param other the other range
+   * @return {@code true} if the ranges overlap, {@code false} otherwise
+   */
+  public boolean overlaps(OpenEndRange<T> other) {
+    return !isEmpty()
+        && !other.isEmpty()
+        && ClosedRange.compare(comparator, start, other.endExclusive) < 0
+        && ClosedRange.compare(comparator, other.start, endExclusive) < 0;
+  }
+
+  @Override
+  public String toString() {
+    return start + "..<" + endExclusive;
+  }
+}
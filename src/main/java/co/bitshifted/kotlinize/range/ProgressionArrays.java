@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.nio.BufferOverflowException;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+/**
+ * Writes arithmetic progressions into primitive arrays and buffers. The fill loops are unrolled by
+ * four, with each lane advancing by four steps, so there is no dependency between consecutive
+ * stores and the JIT compiler can keep the loop close to memory bandwidth.
+ */
+final class ProgressionArrays {
+
+  private ProgressionArrays() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Writes a progression of {@code int} values into an array.
+   *
+   * @param dst destination array
+   * @param offset index of the first written element in the array
+   * @param first first element of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param count number of elements to write
+   * @throws IndexOutOfBoundsException if the elements do not fit in the array
+   */
+  static void fill(int[] dst, int offset, int first, int delta, int count) {
+    Objects.checkFromIndexSize(offset, count, dst.length);
+    int end = offset + count;
+    int i = offset;
+    int v0 = first;
+    int v1 = first + delta;
+    int v2 = first + 2 * delta;
+    int v3 = first + 3 * delta;
+    int stride = 4 * delta;
+    for (; i + 3 < end; i += 4) {
+      dst[i] = v0;
+      dst[i + 1] = v1;
+      dst[i + 2] = v2;
+      dst[i + 3] = v3;
+      v0 += stride;
+      v1 += stride;
+      v2 += stride;
+      v3 += stride;
+    }
+    for (; i < end; i++) {
+      dst[i] = v0;
+      v0 += delta;
+    }
+  }
+
+  /**
+   * Writes a progression of {@code long} values into an array.
+   *
+   * @param dst destination array
+   * @param offset index of the first written element in the array
+   * @param first first element of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param count number of elements to write
+   * @throws IndexOutOfBoundsException if the elements do not fit in the array
+   */
+  static void fill(long[] dst, int offset, long first, long delta, int count) {
+    Objects.checkFromIndexSize(offset, count, dst.length);
+    int end = offset + count;
+    int i = offset;
+    long v0 = first;
+    long v1 = first + delta;
+    long v2 = first + 2 * delta;
+    long v3 = first + 3 * delta;
+    long stride = 4 * delta;
+    for (; i + 3 < end; i += 4) {
+      dst[i] = v0;
+      dst[i + 1] = v1;
+      dst[i + 2] = v2;
+      dst[i + 3] = v3;
+      v0 += stride;
+      v1 += stride;
+      v2 += stride;
+      v3 += stride;
+    }
+    for (; i < end; i++) {
+      dst[i] = v0;
+      v0 += delta;
+    }
+  }
+
+  /**
+   * Writes a progression of {@code int} values into a buffer, starting at its current position. The
+   * position is advanced past the written elements. Heap buffers are filled through their backing
+   * array.
+   *
+   * @param dst destination buffer
+   * @param first first element of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param count number of elements to write
+   * @throws BufferOverflowException if the buffer has fewer than {@code count} elements remaining
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+   */
+  static void fill(IntBuffer dst, int first, int delta, int count) {
+    if (dst.remaining() < count) {
+      throw new BufferOverflowException();
+    }
+    int position = dst.position();
+    if (dst.hasArray()) {
+      fill(dst.array(), dst.arrayOffset() + position, first, delta, count);
+    } else {
+      int value = first;
+      for (int i = position; i < position + count; i++) {
+        dst.put(i, value);
+        value += delta;
+      }
+    }
+    dst.position(position + count);
+  }
+
+  /**
+   * Writes a progression of {@code long} values into a buffer, starting at its current position.
+   * The position is advanced past the written elements. Heap buffers are filled through their
+   * backing array.
+   *
+   * @param dst destination buffer
+   * @param first first element of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param count number of elements to write
+   * @throws BufferOverflowException if the buffer has fewer than {@code count} elements remaining
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+   */
+  static void fill(LongBuffer dst, long first, long delta, int count) {
+    if (dst.remaining() < count) {
+      throw new BufferOverflowException();
+    }
+    int position = dst.position();
+    if (dst.hasArray()) {
+      fill(dst.array(), dst.arrayOffset() + position, first, delta, count);
+    } else {
+      long value = first;
+      for (int i = position; i < position + count; i++) {
+        dst.put(i, value);
+        value += delta;
+      }
+    }
+    dst.position(position + count);
+  }
+}
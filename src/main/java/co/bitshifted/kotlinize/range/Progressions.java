@@ -0,0 +1,518 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongToDoubleFunction;
+
+/** Arithmetic shared by the integral range types. */
+final class Progressions {
+
+  /** Largest number of progressions returned by {@link #subtract(Bounds, Bounds)}. */
+  static final int MAX_PARTS = 1 << 20;
+
+  private Progressions() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Normalized form of a non-empty progression, ascending from {@code min} to {@code max} (both
+   * inclusive) by {@code step}. Empty progressions are represented by {@code null}.
+   *
+   * @param min smallest element
+   * @param max largest element
+   * @param step positive difference between two consecutive elements
+   */
+  record Bounds(long min, long max, long step) {
+
+    /**
+     * Creates the normalized form of a progression.
+     *
+     * @param first first element of the progression
+     * @param delta signed difference between two consecutive elements
+     * @param size number of elements in the progression
+     * @return normalized progression, or {@code null} if it is empty
+     */
+    static Bounds of(long first, long delta, long size) {
+      if (size == 0) {
+        return null;
+      }
+      long last = first + (size - 1) * delta;
+      return delta > 0 ? new Bounds(first, last, delta) : new Bounds(last, first, -delta);
+    }
+
+    /**
+     * Returns the number of elements in the progression.
+     *
+     * @return number of elements
+     */
+    long size() {
+      return Long.divideUnsigned(max - min, step) + 1;
+    }
+
+    /**
+     * Checks if this progression consists of a single element.
+     *
+     * @return {@code true} if the progression has exactly one element
+     */
+    boolean isSingleton() {
+      return min == max;
+    }
+  }
+
+  /**
+   * Computes the end value of a range created from its elements, in the convention of the range
+   * constructors: the last element of an increasing range, and the value one step past the last
+   * element of a decreasing range. If that value is less than the smallest value of the range type,
+   * the smallest value is returned instead.
+   *
+   * @param last last element of the range
+   * @param delta signed difference between two consecutive elements
+   * @param min smallest value of the range type
+   * @return end value of the range
+   */
+  static long end(long last, long delta, long min) {
+    if (delta > 0) {
+      return last;
+    }
+    return last < min - delta ? min : last + delta;
+  }
+
+  /**
+   * Computes the number of elements in a progression. An increasing progression includes {@code
+   * end}, while a decreasing progression stops before reaching it. The distance between {@code
+   * start} and {@code end} is treated as an unsigned value, so the computation does not overflow
+   * even when the bounds are close to {@link Long#MIN_VALUE} and {@link Long#MAX_VALUE}.
+   *
+   * @param start start value
+   * @param end end value
+   * @param step step between elements, must be positive
+   * @return number of elements in the progression
+   * @throws IllegalArgumentException if {@code step} is not positive, or the progression has more
+   *     than {@link Long#MAX_VALUE} elements
+   */
+  static long size(long start, long end, long step) {
+    if (step <= 0) {
+      throw new IllegalArgumentException("Step must be positive, was: " + step);
+    }
+    long distance = start <= end ? end - start : start - end - 1;
+    long lastIndex = Long.divideUnsigned(distance, step);
+    if (lastIndex < 0 || lastIndex == Long.MAX_VALUE) {
+      throw new IllegalArgumentException("Range has more than " + Long.MAX_VALUE + " elements");
+    }
+    return lastIndex + 1;
+  }
+
+  /**
+   * Computes the number of elements in a progression which goes from {@code first} towards {@code
+   * last} (inclusive) by a signed step. The progression is empty if the step points away from
+   * {@code last}.
+   *
+   * @param first first element
+   * @param last bound of the progression (inclusive)
+   * @param step signed difference between two consecutive elements
+   * @return number of elements in the progression
+   * @throws IllegalArgumentException if {@code step} is zero or {@link Long#MIN_VALUE}, or the
+   *     progression has more than {@link Long#MAX_VALUE} elements
+   */
+  static long closedSize(long first, long last, long step) {
+    if (step == 0 || step == Long.MIN_VALUE) {
+      throw new IllegalArgumentException("Step must be non-zero, was: " + step);
+    }
+    if (step > 0 ? first > last : first < last) {
+      return 0;
+    }
+    long lastIndex = Long.divideUnsigned(step > 0 ? last - first : first - last, Math.abs(step));
+    if (lastIndex < 0 || lastIndex == Long.MAX_VALUE) {
+      throw new IllegalArgumentException("Range has more than " + Long.MAX_VALUE + " elements");
+    }
+    return lastIndex + 1;
+  }
+
+  /**
+   * Counts the leading elements of a progression which come before a bound, in the direction of the
+   * progression.
+   *
+   * @param first first element of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param size number of elements in the progression
+   * @param bound bound to stop at (exclusive)
+   * @return number of elements before the bound
+   */
+  static long countBefore(long first, long delta, long size, long bound) {
+    long before;
+    if (delta > 0) {
+      before = bound > first ? closedSize(first, bound - 1, delta) : 0;
+    } else {
+      before = bound < first ? closedSize(first, bound + 1, delta) : 0;
+    }
+    return Math.min(size, before);
+  }
+
+  /**
+   * Computes the number of elements in a floating-point progression, with the same end semantics as
+   * the integral progressions: an increasing progression includes {@code end}, while a decreasing
+   * progression stops before reaching it. Elements are compared exactly as they are computed, so
+   * {@code end} is only included if the computed element is equal to it.
+   *
+   * @param start start value
+   * @param end end value
+   * @param step step between elements, must be positive
+   * @param elementAt function computing the element at a given index, in the precision of the range
+   *     type
+   * @return number of elements in the progression
+   * @throws IllegalArgumentException if {@code step} is not positive, a bound or the step is not
+   *     finite, the step is too small to separate consecutive elements, or the progression has more
+   *     than {@link Long#MAX_VALUE} elements
+   */
+  static long size(double start, double end, double step, LongToDoubleFunction elementAt) {
+    if (!(step > 0)) {
+      throw new IllegalArgumentException("Step must be positive, was: " + step);
+    }
+    if (!Double.isFinite(start) || !Double.isFinite(end) || !Double.isFinite(step)) {
+      throw new IllegalArgumentException("Range bounds and step must be finite");
+    }
+    boolean increasing = start <= end;
+    double estimate =
+        increasing ? Math.floor((end - start) / step) + 1 : Math.ceil((start - end) / step);
+    if (!(estimate < Long.MAX_VALUE)) {
+      throw new IllegalArgumentException("Range has more than " + Long.MAX_VALUE + " elements");
+    }
+    long size = (long) estimate;
+    // the estimate is off by at most one element in either direction due to rounding
+    for (int i = 0; i < 2; i++) {
+      if (size > 0 && !before(elementAt.applyAsDouble(size - 1), end, increasing)) {
+        size--;
+      } else if (before(elementAt.applyAsDouble(size), end, increasing)) {
+        size++;
+      }
+    }
+    if (size > 1
+        && (elementAt.applyAsDouble(0) == elementAt.applyAsDouble(1)
+            || elementAt.applyAsDouble(size - 2) == elementAt.applyAsDouble(size - 1))) {
+      throw new IllegalArgumentException("Step " + step + " is too small for range bounds");
+    }
+    return size;
+  }
+
+  private static boolean before(double value, double end, boolean increasing) {
+    return increasing ? value <= end : value > end;
+  }
+
+  /**
+   * Computes the index of a value in a floating-point progression. The candidate index is derived
+   * from the distance to the first element, and the value is only accepted if it is exactly equal
+   * to the element computed at that index.
+   *
+   * @param value value to look up
+   * @param first first element of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param size number of elements in the progression
+   * @param elementAt function computing the element at a given index, in the precision of the range
+   *     type
+   * @return index of the value, or {@code -1} if the progression does not contain it
+   */
+  static long indexOf(
+      double value, double first, double delta, long size, LongToDoubleFunction elementAt) {
+    double estimate = Math.rint((value - first) / delta);
+    if (!(estimate >= 0 && estimate < size)) {
+      return -1;
+    }
+    long index = (long) estimate;
+    return elementAt.applyAsDouble(index) == value ? index : -1;
+  }
+
+  /**
+   * Computes the index of a value in a progression.
+   *
+   * @param first first element of the progression
+   * @param delta signed difference between two consecutive elements
+   * @param size number of elements in the progression
+   * @param value value to look up
+   * @return index of the value, or {@code -1} if the progression does not contain it
+   */
+  static long indexOf(long first, long delta, long size, long value) {
+    long offset;
+    if (delta > 0) {
+      if (value < first) {
+        return -1;
+      }
+      offset = value - first;
+    } else {
+      if (value > first) {
+        return -1;
+      }
+      offset = first - value;
+    }
+    long step = Math.abs(delta);
+    if (Long.remainderUnsigned(offset, step) != 0) {
+      return -1;
+    }
+    long index = Long.divideUnsigned(offset, step);
+    return Long.compareUnsigned(index, size) < 0 ? index : -1;
+  }
+
+  /**
+   * Computes the sum of a progression whose elements fit in an {@code int}. The sum of such a
+   * progression always fits in a {@code long}, so the result is exact.
+   *
+   * @param first first element of the progression
+   * @param last last element of the progression
+   * @param size number of elements in the progression
+   * @return sum of all elements, or {@code 0} if the progression is empty
+   */
+  static long sum(int first, int last, long size) {
+    if (size == 0) {
+      return 0;
+    }
+    long bounds = (long) first + last;
+    // for an odd number of elements, first + last is always even
+    return size % 2 == 0 ? (size / 2) * bounds : size * (bounds / 2);
+  }
+
+  /**
+   * Computes the sum of a progression of {@code long} values.
+   *
+   * @param first first element of the progression
+   * @param last last element of the progression
+   * @param size number of elements in the progression
+   * @return sum of all elements, or {@link BigInteger#ZERO} if the progression is empty
+   */
+  static BigInteger sum(long first, long last, long size) {
+    if (size == 0) {
+      return BigInteger.ZERO;
+    }
+    var bounds = BigInteger.valueOf(first).add(BigInteger.valueOf(last));
+    return bounds.multiply(BigInteger.valueOf(size)).shiftRight(1);
+  }
+
+  /**
+   * Computes the average of a progression, which is the midpoint between its first and last
+   * element.
+   *
+   * @param first first element of the progression
+   * @param last last element of the progression
+   * @param size number of elements in the progression
+   * @return average of all elements, or {@link Double#NaN} if the progression is empty
+   */
+  static double average(long first, long last, long size) {
+    if (size == 0) {
+      return Double.NaN;
+    }
+    return first / 2.0 + last / 2.0;
+  }
+
+  /**
+   * Checks that a step computed for a derived progression fits in the range type.
+   *
+   * @param bounds derived progression
+   * @param fallback step to use if the progression has a single element
+   * @param max largest step supported by the range type
+   * @return step of the derived progression
+   * @throws ArithmeticException if the step is larger than {@code max}
+   */
+  static long checkStep(Bounds bounds, long fallback, long max) {
+    if (bounds.isSingleton()) {
+      return fallback;
+    }
+    if (bounds.step() > max) {
+      throw new ArithmeticException("Step " + bounds.step() + " is out of range for range type");
+    }
+    return bounds.step();
+  }
+
+  /**
+   * Computes the intersection of two progressions. If the steps are equal, the progressions either
+   * share all elements within their common interval or none of them. Otherwise the first common
+   * element is found by solving the congruences with the Chinese remainder theorem, and the
+   * intersection is stepped by the least common multiple of the two steps.
+   *
+   * @param a first progression, or {@code null} if empty
+   * @param b second progression, or {@code null} if empty
+   * @return intersection of the progressions, or {@code null} if it is empty
+   * @throws ArithmeticException if the intersection has more than one element and its step does not
+   *     fit in a {@code long}
+   */
+  static Bounds intersect(Bounds a, Bounds b) {
+    if (a == null || b == null) {
+      return null;
+    }
+    long min = Math.max(a.min(), b.min());
+    long max = Math.min(a.max(), b.max());
+    if (min > max) {
+      return null;
+    }
+    if (a.isSingleton() || b.isSingleton() || a.step() == b.step()) {
+      var finer = a.isSingleton() ? b : a;
+      var other = finer == a ? b : a;
+      if (!aligned(other.min(), finer.min(), finer.step())
+          || !other.isSingleton() && !aligned(finer.min(), other.min(), other.step())) {
+        return null;
+      }
+      return align(min, max, finer.min(), finer.step());
+    }
+    var s = BigInteger.valueOf(a.step());
+    var t = BigInteger.valueOf(b.step());
+    var gcd = s.gcd(t);
+    var distance = BigInteger.valueOf(b.min()).subtract(BigInteger.valueOf(a.min()));
+    if (distance.mod(gcd).signum() != 0) {
+      return null;
+    }
+    // solve a.min + s * k == b.min (mod t) for k
+    var modulus = t.divide(gcd);
+    var k = distance.divide(gcd).mod(modulus).multiply(s.divide(gcd).modInverse(modulus));
+    var lcm = s.divide(gcd).multiply(t);
+    var common = BigInteger.valueOf(a.min()).add(s.multiply(k.mod(modulus)));
+    var lower = BigInteger.valueOf(min);
+    var first = lower.add(common.subtract(lower).mod(lcm));
+    var upper = BigInteger.valueOf(max);
+    if (first.compareTo(upper) > 0) {
+      return null;
+    }
+    var last = first.add(upper.subtract(first).divide(lcm).multiply(lcm));
+    if (first.equals(last)) {
+      return new Bounds(first.longValueExact(), first.longValueExact(), a.step());
+    }
+    return new Bounds(first.longValueExact(), last.longValueExact(), lcm.longValueExact());
+  }
+
+  /**
+   * Computes the elements of progression {@code a} which are not in progression {@code b}. The
+   * result is a list of progressions in ascending order of their smallest element. If the common
+   * elements are not consecutive elements of {@code a}, the elements between them are returned in
+   * whichever layout takes fewer progressions: one progression for each skipped position between
+   * two common elements, or one progression for each gap between two common elements.
+   *
+   * @param a progression to subtract from
+   * @param b progression to subtract
+   * @return the remaining elements of {@code a}, as a list of progressions
+   * @throws IllegalArgumentException if the result has more than {@link #MAX_PARTS} progressions
+   */
+  static List<Bounds> subtract(Bounds a, Bounds b) {
+    var common = intersect(a, b);
+    List<Bounds> result = new ArrayList<>();
+    if (common == null) {
+      if (a != null) {
+        result.add(a);
+      }
+      return result;
+    }
+    if (common.min() != a.min()) {
+      result.add(new Bounds(a.min(), common.min() - a.step(), a.step()));
+    }
+    if (!common.isSingleton() && common.step() != a.step()) {
+      long positions = common.step() / a.step();
+      long gaps = common.size() - 1;
+      if (Long.compareUnsigned(Math.min(positions - 1, gaps), MAX_PARTS) > 0) {
+        throw new IllegalArgumentException("Difference has more than " + MAX_PARTS + " ranges");
+      }
+      if (positions - 1 <= gaps) {
+        for (long i = 1; i < positions; i++) {
+          long first = common.min() + i * a.step();
+          long last =
+              first + Long.divideUnsigned(common.max() - first, common.step()) * common.step();
+          result.add(new Bounds(first, last, common.step()));
+        }
+      } else {
+        for (long i = 0; i < gaps; i++) {
+          long removed = common.min() + i * common.step();
+          result.add(new Bounds(removed + a.step(), removed + common.step() - a.step(), a.step()));
+        }
+      }
+    }
+    if (common.max() != a.max()) {
+      result.add(new Bounds(common.max() + a.step(), a.max(), a.step()));
+    }
+    return result;
+  }
+
+  /**
+   * Computes the union of two non-empty progressions, if the union is itself a progression. This is
+   * the case when one progression contains the other, or when both have the same step, are aligned
+   * to each other and overlap or are adjacent.
+   *
+   * @param a first progression
+   * @param b second progression
+   * @return union of the progressions, or {@code null} if the union is not a single progression
+   */
+  static Bounds union(Bounds a, Bounds b) {
+    var common = intersect(a, b);
+    if (common != null && common.size() == a.size()) {
+      return b;
+    }
+    if (common != null && common.size() == b.size()) {
+      return a;
+    }
+    if (a.isSingleton() && b.isSingleton()) {
+      return null;
+    }
+    long step = a.isSingleton() ? b.step() : a.step();
+    if (!a.isSingleton() && !b.isSingleton() && a.step() != b.step()
+        || !aligned(a.min(), b.min(), step)) {
+      return null;
+    }
+    long lower = Math.max(a.min(), b.min());
+    long upper = Math.min(a.max(), b.max());
+    if (lower > upper && Long.compareUnsigned(lower - upper, step) > 0) {
+      return null;
+    }
+    return new Bounds(Math.min(a.min(), b.min()), Math.max(a.max(), b.max()), step);
+  }
+
+  /**
+   * Checks if two values are congruent modulo {@code step}.
+   *
+   * @param x first value
+   * @param y second value
+   * @param step positive modulus
+   * @return {@code true} if the values leave the same remainder when divided by {@code step}
+   */
+  private static boolean aligned(long x, long y, long step) {
+    return Math.floorMod(x, step) == Math.floorMod(y, step);
+  }
+
+  /**
+   * Computes the progression of all values between {@code min} and {@code max} that are congruent
+   * to {@code origin} modulo {@code step}.
+   *
+   * @param min lower bound (inclusive)
+   * @param max upper bound (inclusive)
+   * @param origin any element of the progression
+   * @param step positive step of the progression
+   * @return the aligned progression, or {@code null} if it is empty
+   */
+  private static Bounds align(long min, long max, long origin, long step) {
+    long offset = Math.floorMod(origin, step) - Math.floorMod(min, step);
+    if (offset < 0) {
+      offset += step;
+    }
+    if (Long.compareUnsigned(offset, max - min) > 0) {
+      return null;
+    }
+    long first = min + offset;
+    long last = first + Long.divideUnsigned(max - first, step) * step;
+    return new Bounds(first, last, step);
+  }
+
+  /**
+   * Checks that a progression consists of consecutive values.
+   *
+   * @param bounds progression to check, or {@code null} if empty
+   * @return the same progression
+   * @throws IllegalArgumentException if the progression has more than one element and a step other
+   *     than 1
+   */
+  static Bounds requireUnitStep(Bounds bounds) {
+    if (bounds != null && !bounds.isSingleton() && bounds.step() != 1) {
+      throw new IllegalArgumentException("Range step must be 1, was: " + bounds.step());
+    }
+    return bounds;
+  }
+}
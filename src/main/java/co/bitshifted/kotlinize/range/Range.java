@@ -7,19 +7,28 @@
  */
 package co.bitshifted.kotlinize.range;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A base class for ranges, representing a sequence of values. This class is sealed and permits
  * specific implementations for different data types.
  *
+ * <p>Ranges do not store their elements. Only the start, end and step values are kept, and each
+ * element is computed from its index when it is needed, so creating a range takes constant time and
+ * memory regardless of its size.
+ *
  * @param <T> the type of the range elements
  */
-public sealed class Range<T> implements Iterable<T>
-    permits ByteRange, ShortRange, IntRange, LongRange, CharRange {
+public abstract sealed class Range<T> implements Iterable<T>
+    permits ByteRange, ShortRange, IntRange, LongRange, CharRange, DoubleRange, FloatRange {
 
   /** The start value of the range. */
   protected final T start;
@@ -30,22 +39,32 @@ public sealed class Range<T> implements Iterable<T>
   /** The step value for the range progression. */
   protected final T step;
 
-  /** The list of elements that make up the range. */
-  protected final List<T> elements = new ArrayList<>();
+  /** The number of elements in the range. */
+  protected final long size;
 
   /**
-   * Creates a new Range. Subclasses are responsible for populating the elements list.
+   * Creates a new Range. Subclasses are responsible for computing the number of elements.
    *
    * @param start start value
    * @param endInclusive end value (inclusive)
    * @param step step value
+   * @param size number of elements in the range
    */
-  protected Range(T start, T endInclusive, T step) {
+  protected Range(T start, T endInclusive, T step, long size) {
     this.start = start;
     this.end = endInclusive;
     this.step = step;
+    this.size = size;
   }
 
+  /**
+   * Computes the element at the given index. The index is not checked against the range bounds.
+   *
+   * @param index zero-based index of the element
+   * @return the element at the given index
+   */
+  abstract T valueAt(long index);
+
   /**
    * Gets the start value of the range.
    *
@@ -56,7 +75,14 @@ public sealed class Range<T> implements Iterable<T>
   }
 
   /**
-   * Gets the end value of the range.
+   * Gets the end value of the range. An increasing range includes its end value, while a decreasing
+   * range stops before reaching it. Ranges derived from other ranges, such as reversed views,
+   * stepped views and intersections, follow the same convention as the constructors: their end
+   * value is the last element when they are increasing, and one step past the last element when
+   * they are decreasing. Passing the start, end and step of any range to a constructor therefore
+   * creates a range with the same elements. The only exception is a decreasing range whose last
+   * element is less than one step above the smallest value of its type, whose end value is that
+   * smallest value.
    *
    * @return the end value
    */
@@ -68,18 +94,26 @@ public sealed class Range<T> implements Iterable<T>
    * Gets the first element in the range.
    *
    * @return the first element
+   * @throws NoSuchElementException if the range is empty
    */
   public T first() {
-    return elements.get(0);
+    if (size == 0) {
+      throw new NoSuchElementException("Range is empty");
+    }
+    return valueAt(0);
   }
 
   /**
    * Gets the last element in the range.
    *
    * @return the last element
+   * @throws NoSuchElementException if the range is empty
    */
   public T last() {
-    return elements.get(elements.size() - 1);
+    if (size == 0) {
+      throw new NoSuchElementException("Range is empty");
+    }
+    return valueAt(size - 1);
   }
 
   /**
@@ -89,7 +123,7 @@ public sealed class Range<T> implements Iterable<T>
    * @return {@code true} if at least one element matches the predicate, {@code false} otherwise
    */
   public boolean any(Predicate<T> predicate) {
-    for (T element : elements) {
+    for (T element : this) {
       if (predicate.test(element)) {
         return true;
       }
@@ -104,7 +138,7 @@ public sealed class Range<T> implements Iterable<T>
    * @return {@code true} if all elements match the predicate, {@code false} otherwise
    */
   public boolean all(Predicate<T> predicate) {
-    for (T element : elements) {
+    for (T element : this) {
       if (!predicate.test(element)) {
         return false;
       }
@@ -112,13 +146,23 @@ public sealed class Range<T> implements Iterable<T>
     return true;
   }
 
+  /**
+   * Checks if no element in the range matches the given predicate.
+   *
+   * @param predicate the predicate to test elements against
+   * @return {@code true} if no element matches the predicate, {@code false} otherwise
+   */
+  public boolean none(Predicate<T> predicate) {
+    return !any(predicate);
+  }
+
   /**
    * Returns the elements of the range as an {@link Iterable}.
    *
    * @return an {@link Iterable} of the range elements
    */
   public Iterable<T> asIterable() {
-    return elements;
+    return this;
   }
 
   /**
@@ -128,16 +172,58 @@ public sealed class Range<T> implements Iterable<T>
    * @return {@code true} if the value is in the range, {@code false} otherwise
    */
   public boolean contains(T value) {
-    return elements.contains(value);
+    return indexOf(value) >= 0;
+  }
+
+  /**
+   * Returns the index of the specified value in the range. The index is computed from the range
+   * bounds and step, without iterating over the elements.
+   *
+   * @param value the value to look for
+   * @return the zero-based index of the value, or {@code -1} if the range does not contain it
+   */
+  public abstract long indexOf(T value);
+
+  /**
+   * Returns the element at the specified index. The element is computed from the range bounds and
+   * step, without iterating over the elements.
+   *
+   * @param index zero-based index of the element
+   * @return the element at the given index
+   * @throws IndexOutOfBoundsException if the index is negative or not less than {@link
+   *     #longCount()}
+   */
+  public T elementAt(long index) {
+    return valueAt(Objects.checkIndex(index, size));
+  }
+
+  /**
+   * Checks if the range has no elements.
+   *
+   * @return {@code true} if the range is empty, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return size == 0;
   }
 
   /**
    * Returns the count of elements in the range.
    *
    * @return the number of elements
+   * @throws ArithmeticException if the range has more than {@link Integer#MAX_VALUE} elements
    */
   public int count() {
-    return elements.size();
+    return Math.toIntExact(size);
+  }
+
+  /**
+   * Returns the count of elements in the range as a {@code long}. Unlike {@link #count()}, this
+   * method works for ranges with more than {@link Integer#MAX_VALUE} elements.
+   *
+   * @return the number of elements
+   */
+  public long longCount() {
+    return size;
   }
 
   /**
@@ -146,7 +232,101 @@ public sealed class Range<T> implements Iterable<T>
    * @return a {@link List} of distinct elements
    */
   public List<T> distinct() {
-    return elements.stream().distinct().toList();
+    return stream().distinct().toList();
+  }
+
+  /**
+   * Cuts the range into consecutive chunks of the given size, for batch processing. The last chunk
+   * may be smaller. Each chunk is a range of the same type, with the same step and direction as
+   * this range. The returned list is lazy: chunks are created only when they are accessed, so
+   * cutting even a very large range is cheap.
+   *
+   * @param size number of elements in each chunk
+   * @return a list of chunks
+   * @throws IllegalArgumentException if {@code size} is not positive, or the range would be cut
+   *     into more than {@link Integer#MAX_VALUE} chunks
+   */
+  public abstract List<? extends Range<T>> chunked(long size);
+
+  /**
+   * Splits the range into the given number of consecutive parts whose sizes differ by at most one.
+   * If the range has fewer elements than {@code parts}, the trailing parts are empty. Each part is
+   * a range of the same type, with the same step and direction as this range. The returned list is
+   * lazy: parts are created only when they are accessed.
+   *
+   * @param parts number of parts
+   * @return a list of exactly {@code parts} ranges
+   * @throws IllegalArgumentException if {@code parts} is not positive
+   */
+  public abstract List<? extends Range<T>> split(int parts);
+
+  /**
+   * Returns a sequential {@link Stream} of the range elements.
+   *
+   * @return a sequential stream of the range elements
+   */
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Returns a parallel {@link Stream} of the range elements. The range is split into halves by
+   * index, so the work is evenly balanced between threads.
+   *
+   * @return a parallel stream of the range elements
+   */
+  public Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  /**
+   * Returns a {@link Spliterator} over the range elements. The spliterator knows its exact size and
+   * splits the range exactly in half by index.
+   *
+   * @return a {@link Spliterator} for the range elements
+   */
+  @Override
+  public Spliterator<T> spliterator() {
+    return new IndexSpliterator<>(this::valueAt, 0, size);
+  }
+
+  /**
+   * Returns an iterator over the elements of the range in a pseudo-random order. Every element is
+   * visited exactly once, and the same seed always gives the same order. The order is computed on
+   * demand from a keyed permutation of the element indices, so the iterator takes constant memory
+   * regardless of the range size.
+   *
+   * @param seed seed which determines the order
+   * @return an {@link Iterator} over the shuffled range elements
+   */
+  public Iterator<T> shuffledIterator(long seed) {
+    return Spliterators.iterator(shuffledSpliterator(seed));
+  }
+
+  /**
+   * Returns a {@link Spliterator} over the elements of the range in a pseudo-random order. The
+   * spliterator splits the shuffled order exactly in half, so it can be used for parallel
+   * processing.
+   *
+   * @param seed seed which determines the order
+   * @return a {@link Spliterator} over the shuffled range elements
+   * @see #shuffledIterator(long)
+   */
+  public Spliterator<T> shuffledSpliterator(long seed) {
+    var permutation = new IndexPermutation(size, seed);
+    return new IndexSpliterator<>(index -> valueAt(permutation.applyAsLong(index)), 0, size);
+  }
+
+  /**
+   * Returns a sequential {@link Stream} of the range elements in a pseudo-random order. The stream
+   * can be turned into a parallel one with {@link Stream#parallel()}.
+   *
+   * @param seed seed which determines the order
+   * @return a stream of the shuffled range elements
+   * @see #shuffledIterator(long)
+   */
+  public Stream<T> shuffledStream(long seed) {
+    return StreamSupport.stream(shuffledSpliterator(seed), false);
   }
 
   /**
@@ -156,6 +336,21 @@ public sealed class Range<T> implements Iterable<T>
    */
   @Override
   public Iterator<T> iterator() {
-    return elements.iterator();
+    return new Iterator<>() {
+      private long index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public T next() {
+        if (index >= size) {
+          throw new NoSuchElementException();
+        }
+        return valueAt(index++);
+      }
+    };
   }
 }
@@ -0,0 +1,814 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A compressed set of {@code int} values, in the style of a Roaring bitmap. Values are grouped into
+ * chunks of 65536 by their upper 16 bits, and each chunk is stored in whichever of three containers
+ * takes the least memory:
+ *
+ * <ul>
+ *   <li>a sorted array of the lower 16 bits, for sparse chunks
+ *   <li>a bitmap of 1024 words, for dense chunks with scattered values
+ *   <li>a list of runs of consecutive values, for chunks made of long runs
+ * </ul>
+ *
+ * <p>Set operations between dense chunks work on whole 64-bit words at a time. Sets which consist
+ * mostly of long runs, with some scattered values, take a few bytes per run.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class RangeBitmap {
+
+  /** Largest number of values stored in an array container. */
+  private static final int ARRAY_MAX = 4096;
+
+  /** Number of 64-bit words in a bitmap container. */
+  private static final int WORDS = 1024;
+
+  /** Upper 16 bits of the values in each chunk, in ascending signed order. */
+  private short[] keys;
+
+  private Container[] containers;
+  private int count;
+
+  /** Creates an empty bitmap. */
+  public RangeBitmap() {
+    this.keys = new short[4];
+    this.containers = new Container[4];
+  }
+
+  private RangeBitmap(short[] keys, Container[] containers, int count) {
+    this.keys = keys;
+    this.containers = containers;
+    this.count = count;
+  }
+
+  /**
+   * Creates a bitmap containing all values of the given ranges.
+   *
+   * @param ranges ranges to add to the bitmap
+   * @return a new bitmap
+   * @throws IllegalArgumentException if any of the ranges has a step other than 1
+   */
+  public static RangeBitmap of(IntRange... ranges) {
+    var bitmap = new RangeBitmap();
+    for (var range : ranges) {
+      bitmap.addRange(range);
+    }
+    return bitmap;
+  }
+
+  /**
+   * Adds a value to the bitmap.
+   *
+   * @param value value to add
+   */
+  public void add(int value) {
+    int index = chunkIndex(value);
+    if (index >= 0) {
+      containers[index] = containers[index].add(value & 0xFFFF);
+    } else {
+      insertChunk(-index - 1, (short) (value >> 16), new ArrayContainer(value & 0xFFFF));
+    }
+  }
+
+  /**
+   * Adds all values of the given range to the bitmap. Only ranges of consecutive values can be
+   * added.
+   *
+   * @param range range to add
+   * @throws IllegalArgumentException if the range has more than one element and a step other than 1
+   */
+  public void addRange(IntRange range) {
+    var bounds = Progressions.requireUnitStep(range.bounds());
+    if (bounds != null) {
+      add((int) bounds.min(), (int) bounds.max());
+    }
+  }
+
+  /**
+   * Adds all values between {@code from} and {@code toInclusive} to the bitmap.
+   *
+   * @param from smallest value to add
+   * @param toInclusive largest value to add
+   * @throws IllegalArgumentException if {@code from} is greater than {@code toInclusive}
+   */
+  public void add(int from, int toInclusive) {
+    if (from > toInclusive) {
+      throw new IllegalArgumentException(
+          "Interval start " + from + " is greater than end " + toInclusive);
+    }
+    for (int high = from >> 16; high <= toInclusive >> 16; high++) {
+      int low = high == from >> 16 ? from & 0xFFFF : 0;
+      int lowEnd = high == toInclusive >> 16 ? toInclusive & 0xFFFF : 0xFFFF;
+      int index = chunkIndex(high << 16);
+      if (index >= 0) {
+        containers[index] = containers[index].addRange(low, lowEnd);
+      } else {
+        insertChunk(-index - 1, (short) high, RunContainer.of(low, lowEnd));
+      }
+    }
+  }
+
+  /**
+   * Checks if the bitmap contains the given value.
+   *
+   * @param value value to check
+   * @return {@code true} if the value is in the bitmap, {@code false} otherwise
+   */
+  public boolean contains(int value) {
+    int index = chunkIndex(value);
+    return index >= 0 && containers[index].contains(value & 0xFFFF);
+  }
+
+  /**
+   * Returns the number of values in the bitmap.
+   *
+   * @return the number of values
+   */
+  public long cardinality() {
+    long total = 0;
+    for (int i = 0; i < count; i++) {
+      total += containers[i].cardinality();
+    }
+    return total;
+  }
+
+  /**
+   * Checks if the bitmap has no values.
+   *
+   * @return {@code true} if the bitmap is empty, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return count == 0;
+  }
+
+  /**
+   * Returns the number of values in the bitmap which are less than or equal to the given value.
+   *
+   * @param value value to rank
+   * @return the number of values up to and including {@code value}
+   */
+  public long rank(int value) {
+    short high = (short) (value >> 16);
+    long rank = 0;
+    for (int i = 0; i < count && keys[i] <= high; i++) {
+      rank += keys[i] < high ? containers[i].cardinality() : containers[i].rank(value & 0xFFFF);
+    }
+    return rank;
+  }
+
+  /**
+   * Returns the value at the given position in ascending order.
+   *
+   * @param position zero-based position of the value
+   * @return the value at the given position
+   * @throws IndexOutOfBoundsException if the position is negative or not less than {@link
+   *     #cardinality()}
+   */
+  public int select(long position) {
+    if (position >= 0) {
+      long remaining = position;
+      for (int i = 0; i < count; i++) {
+        int cardinality = containers[i].cardinality();
+        if (remaining < cardinality) {
+          return keys[i] << 16 | containers[i].select((int) remaining);
+        }
+        remaining -= cardinality;
+      }
+    }
+    throw new IndexOutOfBoundsException("Position " + position + " out of bounds");
+  }
+
+  /**
+   * Returns the smallest value in the bitmap.
+   *
+   * @return the smallest value
+   * @throws NoSuchElementException if the bitmap is empty
+   */
+  public int first() {
+    if (count == 0) {
+      throw new NoSuchElementException("Bitmap is empty");
+    }
+    return select(0);
+  }
+
+  /**
+   * Returns the values which are in both this bitmap and {@code other}.
+   *
+   * @param other bitmap to intersect with
+   * @return a new bitmap
+   */
+  public RangeBitmap and(RangeBitmap other) {
+    return combine(other, Operation.AND);
+  }
+
+  /**
+   * Returns the values which are in this bitmap, in {@code other}, or in both.
+   *
+   * @param other bitmap to merge with
+   * @return a new bitmap
+   */
+  public RangeBitmap or(RangeBitmap other) {
+    return combine(other, Operation.OR);
+  }
+
+  /**
+   * Returns the values which are in this bitmap but not in {@code other}.
+   *
+   * @param other bitmap whose values to remove
+   * @return a new bitmap
+   */
+  public RangeBitmap andNot(RangeBitmap other) {
+    return combine(other, Operation.AND_NOT);
+  }
+
+  /**
+   * Returns the runs of consecutive values in the bitmap, in ascending order. Runs which cross a
+   * chunk boundary are returned as a single range.
+   *
+   * @return a list of increasing ranges with a step of 1
+   */
+  public List<IntRange> asRanges() {
+    List<IntRange> ranges = new ArrayList<>();
+    long[] run = {0, -1};
+    for (int i = 0; i < count; i++) {
+      int base = keys[i] << 16;
+      containers[i].forEachRun(
+          (low, lowEnd) -> {
+            int from = base | low;
+            int to = base | lowEnd;
+            if (run[1] >= run[0] && run[1] + 1 == from) {
+              run[1] = to;
+            } else {
+              if (run[1] >= run[0]) {
+                ranges.add(new IntRange((int) run[0], (int) run[1]));
+              }
+              run[0] = from;
+              run[1] = to;
+            }
+          });
+    }
+    if (run[1] >= run[0]) {
+      ranges.add(new IntRange((int) run[0], (int) run[1]));
+    }
+    return ranges;
+  }
+
+  /**
+   * Returns a copy of this bitmap.
+   *
+   * @return a new bitmap with the same values
+   */
+  public RangeBitmap copy() {
+    var copied = new Container[Math.max(count, 4)];
+    for (int i = 0; i < count; i++) {
+      copied[i] = containers[i].copy();
+    }
+    return new RangeBitmap(Arrays.copyOf(keys, copied.length), copied, count);
+  }
+
+  private RangeBitmap combine(RangeBitmap other, Operation operation) {
+    int capacity = Math.max(4, count + other.count);
+    var result = new RangeBitmap(new short[capacity], new Container[capacity], 0);
+    int i = 0;
+    int j = 0;
+    while (i < count || j < other.count) {
+      short key;
+      Container container;
+      if (j >= other.count || i < count && keys[i] < other.keys[j]) {
+        key = keys[i];
+        container = operation == Operation.AND ? null : containers[i].copy();
+        i++;
+      } else if (i >= count || other.keys[j] < keys[i]) {
+        key = other.keys[j];
+        container = operation == Operation.OR ? other.containers[j].copy() : null;
+        j++;
+      } else {
+        key = keys[i];
+        container = operation.apply(containers[i], other.containers[j]);
+        i++;
+        j++;
+      }
+      if (container != null) {
+        result.keys[result.count] = key;
+        result.containers[result.count++] = container;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Finds the chunk holding the given value.
+   *
+   * @param value value to look up
+   * @return index of the chunk, or {@code -(insertion point) - 1} if there is none
+   */
+  private int chunkIndex(int value) {
+    return Arrays.binarySearch(keys, 0, count, (short) (value >> 16));
+  }
+
+  private void insertChunk(int index, short key, Container container) {
+    if (count == keys.length) {
+      keys = Arrays.copyOf(keys, count * 2);
+      containers = Arrays.copyOf(containers, count * 2);
+    }
+    System.arraycopy(keys, index, keys, index + 1, count - index);
+    System.arraycopy(containers, index, containers, index + 1, count - index);
+    keys[index] = key;
+    containers[index] = container;
+    count++;
+  }
+
+  /** Consumer of runs of consecutive lower 16-bit values, both bounds inclusive. */
+  @FunctionalInterface
+  private interface RunConsumer {
+    void accept(int low, int lowEnd);
+  }
+
+  private enum Operation {
+    AND,
+    OR,
+    AND_NOT;
+
+    /**
+     * Combines two containers of the same chunk.
+     *
+     * @return the combined container, or {@code null} if it is empty
+     */
+    Container apply(Container a, Container b) {
+      if (this != OR && a instanceof ArrayContainer array) {
+        return array.filter(b, this == AND);
+      }
+      if (this == AND && b instanceof ArrayContainer array) {
+        return array.filter(a, true);
+      }
+      long[] words = a.toWords();
+      long[] others = b.toWords();
+      for (int i = 0; i < WORDS; i++) {
+        words[i] =
+            switch (this) {
+              case AND -> words[i] & others[i];
+              case OR -> words[i] | others[i];
+              case AND_NOT -> words[i] & ~others[i];
+            };
+      }
+      return Container.fromWords(words);
+    }
+  }
+
+  /** The values of a single chunk, stored as their lower 16 bits. */
+  private abstract static class Container {
+
+    abstract int cardinality();
+
+    abstract boolean contains(int low);
+
+    /** Adds a value and returns the container holding the result, which may be a new one. */
+    abstract Container add(int low);
+
+    /** Returns the number of values less than or equal to {@code low}. */
+    abstract int rank(int low);
+
+    /** Returns the value at the given position. */
+    abstract int select(int position);
+
+    abstract void forEachRun(RunConsumer consumer);
+
+    /** Returns the values as a new array of bitmap words. */
+    abstract long[] toWords();
+
+    abstract Container copy();
+
+    /**
+     * Adds all values between {@code low} and {@code lowEnd} (inclusive) and returns the container
+     * holding the result.
+     */
+    Container addRange(int low, int lowEnd) {
+      long[] words = toWords();
+      setRange(words, low, lowEnd);
+      return fromWords(words);
+    }
+
+    /**
+     * Creates the smallest container holding the values of a bitmap.
+     *
+     * @param words bitmap words, which may be taken over by the container
+     * @return the container, or {@code null} if the bitmap is empty
+     */
+    static Container fromWords(long[] words) {
+      int cardinality = 0;
+      int runs = 0;
+      long previous = 0;
+      for (long word : words) {
+        cardinality += Long.bitCount(word);
+        runs += Long.bitCount(word & ~(word << 1 | previous >>> 63));
+        previous = word;
+      }
+      if (cardinality == 0) {
+        return null;
+      }
+      int arrayBytes = 2 * cardinality;
+      int runBytes = 4 * runs;
+      int bitmapBytes = 8 * WORDS;
+      if (runBytes <= arrayBytes && runBytes < bitmapBytes) {
+        return RunContainer.fromWords(words, runs);
+      }
+      if (cardinality <= ARRAY_MAX) {
+        return ArrayContainer.fromWords(words, cardinality);
+      }
+      return new BitmapContainer(words, cardinality);
+    }
+
+    /**
+     * Reports the runs of set bits in a bitmap. The edges of each run are found a word at a time
+     * with {@link Long#numberOfTrailingZeros(long)}, so words which are entirely clear outside a
+     * run, or entirely set inside one, are skipped as a whole.
+     */
+    static void forEachRun(long[] words, RunConsumer consumer) {
+      int start = -1;
+      for (int i = 0; i < WORDS; i++) {
+        long word = words[i];
+        int bit = 0;
+        while (true) {
+          long edges = (start < 0 ? word : ~word) & -1L << bit;
+          if (edges == 0) {
+            break;
+          }
+          bit = Long.numberOfTrailingZeros(edges);
+          if (start < 0) {
+            start = i << 6 | bit;
+          } else {
+            consumer.accept(start, (i << 6 | bit) - 1);
+            start = -1;
+          }
+        }
+      }
+      if (start >= 0) {
+        consumer.accept(start, 0xFFFF);
+      }
+    }
+
+    /** Sets all bits between {@code low} and {@code lowEnd} (inclusive). */
+    static void setRange(long[] words, int low, int lowEnd) {
+      int first = low >>> 6;
+      int last = lowEnd >>> 6;
+      long firstMask = -1L << low;
+      long lastMask = -1L >>> (63 - (lowEnd & 63));
+      if (first == last) {
+        words[first] |= firstMask & lastMask;
+        return;
+      }
+      words[first] |= firstMask;
+      for (int i = first + 1; i < last; i++) {
+        words[i] = -1L;
+      }
+      words[last] |= lastMask;
+    }
+  }
+
+  private static final class ArrayContainer extends Container {
+
+    private char[] values;
+    private int size;
+
+    ArrayContainer(int low) {
+      this.values = new char[4];
+      this.values[0] = (char) low;
+      this.size = 1;
+    }
+
+    private ArrayContainer(char[] values, int size) {
+      this.values = values;
+      this.size = size;
+    }
+
+    static ArrayContainer fromWords(long[] words, int cardinality) {
+      char[] values = new char[cardinality];
+      int size = 0;
+      for (int i = 0; i < WORDS; i++) {
+        for (long word = words[i]; word != 0; word &= word - 1) {
+          values[size++] = (char) (i << 6 | Long.numberOfTrailingZeros(word));
+        }
+      }
+      return new ArrayContainer(values, size);
+    }
+
+    @Override
+    int cardinality() {
+      return size;
+    }
+
+    @Override
+    boolean contains(int low) {
+      return Arrays.binarySearch(values, 0, size, (char) low) >= 0;
+    }
+
+    @Override
+    Container add(int low) {
+      int index = Arrays.binarySearch(values, 0, size, (char) low);
+      if (index >= 0) {
+        return this;
+      }
+      if (size == ARRAY_MAX) {
+        long[] words = toWords();
+        words[low >>> 6] |= 1L << low;
+        return new BitmapContainer(words, size + 1);
+      }
+      index = -index - 1;
+      if (size == values.length) {
+        values = Arrays.copyOf(values, Math.min(ARRAY_MAX, size * 2));
+      }
+      System.arraycopy(values, index, values, index + 1, size - index);
+      values[index] = (char) low;
+      size++;
+      return this;
+    }
+
+    @Override
+    int rank(int low) {
+      int index = Arrays.binarySearch(values, 0, size, (char) low);
+      return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    @Override
+    int select(int position) {
+      return values[position];
+    }
+
+    @Override
+    void forEachRun(RunConsumer consumer) {
+      int i = 0;
+      while (i < size) {
+        int start = values[i];
+        int end = start;
+        while (++i < size && values[i] == end + 1) {
+          end++;
+        }
+        consumer.accept(start, end);
+      }
+    }
+
+    @Override
+    long[] toWords() {
+      long[] words = new long[WORDS];
+      for (int i = 0; i < size; i++) {
+        words[values[i] >>> 6] |= 1L << values[i];
+      }
+      return words;
+    }
+
+    @Override
+    Container copy() {
+      return new ArrayContainer(Arrays.copyOf(values, size), size);
+    }
+
+    /**
+     * Keeps the values which are in {@code other} if {@code keep} is {@code true}, or the values
+     * which are not in {@code other} otherwise.
+     *
+     * @return the filtered container, or {@code null} if it is empty
+     */
+    Container filter(Container other, boolean keep) {
+      char[] filtered = new char[size];
+      int filteredSize = 0;
+      for (int i = 0; i < size; i++) {
+        if (other.contains(values[i]) == keep) {
+          filtered[filteredSize++] = values[i];
+        }
+      }
+      return filteredSize == 0 ? null : new ArrayContainer(filtered, filteredSize);
+    }
+  }
+
+  private static final class BitmapContainer extends Container {
+
+    private final long[] words;
+    private int cardinality;
+
+    BitmapContainer(long[] words, int cardinality) {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(int low) {
+      return (words[low >>> 6] & 1L << low) != 0;
+    }
+
+    @Override
+    Container add(int low) {
+      if (!contains(low)) {
+        words[low >>> 6] |= 1L << low;
+        cardinality++;
+      }
+      return this;
+    }
+
+    @Override
+    int rank(int low) {
+      int rank = 0;
+      int last = low >>> 6;
+      for (int i = 0; i < last; i++) {
+        rank += Long.bitCount(words[i]);
+      }
+      return rank + Long.bitCount(words[last] & -1L >>> (63 - (low & 63)));
+    }
+
+    @Override
+    int select(int position) {
+      int remaining = position;
+      for (int i = 0; ; i++) {
+        int bits = Long.bitCount(words[i]);
+        if (remaining < bits) {
+          long word = words[i];
+          for (int j = 0; j < remaining; j++) {
+            word &= word - 1;
+          }
+          return i << 6 | Long.numberOfTrailingZeros(word);
+        }
+        remaining -= bits;
+      }
+    }
+
+    @Override
+    void forEachRun(RunConsumer consumer) {
+      Container.forEachRun(words, consumer);
+    }
+
+    @Override
+    long[] toWords() {
+      return words.clone();
+    }
+
+    @Override
+    Container copy() {
+      return new BitmapContainer(words.clone(), cardinality);
+    }
+  }
+
+  private static final class RunContainer extends Container {
+
+    /** Start and end (inclusive) of each run, in ascending order. */
+    private char[] runs;
+
+    /** Number of used entries in {@code runs}, two per run. */
+    private int length;
+
+    private RunContainer(char[] runs, int length) {
+      this.runs = runs;
+      this.length = length;
+    }
+
+    static RunContainer of(int low, int lowEnd) {
+      return new RunContainer(new char[] {(char) low, (char) lowEnd}, 2);
+    }
+
+    static RunContainer fromWords(long[] words, int runCount) {
+      char[] runs = new char[2 * runCount];
+      int[] index = {0};
+      Container.forEachRun(
+          words,
+          (low, lowEnd) -> {
+            runs[index[0]++] = (char) low;
+            runs[index[0]++] = (char) lowEnd;
+          });
+      return new RunContainer(runs, runs.length);
+    }
+
+    @Override
+    int cardinality() {
+      int cardinality = 0;
+      for (int i = 0; i < length; i += 2) {
+        cardinality += runs[i + 1] - runs[i] + 1;
+      }
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(int low) {
+      int index = floorRun(low);
+      return index >= 0 && runs[index + 1] >= low;
+    }
+
+    @Override
+    Container add(int low) {
+      return contains(low) ? this : addRange(low, low);
+    }
+
+    /**
+     * Merges the values into the runs in place: the runs which overlap or touch the new values are
+     * replaced by a single run. The container is only converted when a new run would make it larger
+     * than an array or bitmap container holding the same values.
+     */
+    @Override
+    Container addRange(int low, int lowEnd) {
+      int first = floorRun(low);
+      if (first < 0 || runs[first + 1] + 1 < low) {
+        first += 2;
+      }
+      int last = floorRun(lowEnd + 1);
+      int merged = last < first ? 0 : (last - first) / 2 + 1;
+      int newLength = length + 2 - 2 * merged;
+      if (merged == 0 && !fitsRuns(newLength, cardinality() + lowEnd - low + 1)) {
+        return super.addRange(low, lowEnd);
+      }
+      int start = merged == 0 ? low : Math.min(low, runs[first]);
+      int end = merged == 0 ? lowEnd : Math.max(lowEnd, runs[last + 1]);
+      if (newLength > runs.length) {
+        runs = Arrays.copyOf(runs, Math.max(newLength, 2 * runs.length));
+      }
+      int tail = merged == 0 ? first : last + 2;
+      System.arraycopy(runs, tail, runs, first + 2, length - tail);
+      runs[first] = (char) start;
+      runs[first + 1] = (char) end;
+      length = newLength;
+      return this;
+    }
+
+    @Override
+    int rank(int low) {
+      int rank = 0;
+      for (int i = 0; i < length && runs[i] <= low; i += 2) {
+        rank += Math.min(runs[i + 1], low) - runs[i] + 1;
+      }
+      return rank;
+    }
+
+    @Override
+    int select(int position) {
+      int remaining = position;
+      for (int i = 0; ; i += 2) {
+        int runLength = runs[i + 1] - runs[i] + 1;
+        if (remaining < runLength) {
+          return runs[i] + remaining;
+        }
+        remaining -= runLength;
+      }
+    }
+
+    @Override
+    void forEachRun(RunConsumer consumer) {
+      for (int i = 0; i < length; i += 2) {
+        consumer.accept(runs[i], runs[i + 1]);
+      }
+    }
+
+    @Override
+    long[] toWords() {
+      long[] words = new long[WORDS];
+      for (int i = 0; i < length; i += 2) {
+        setRange(words, runs[i], runs[i + 1]);
+      }
+      return words;
+    }
+
+    @Override
+    Container copy() {
+      return new RunContainer(Arrays.copyOf(runs, length), length);
+    }
+
+    /**
+     * Checks whether runs are still the smallest representation, using the same sizes as {@link
+     * Container#fromWords(long[])}.
+     */
+    private static boolean fitsRuns(int runLength, int cardinality) {
+      int runBytes = 2 * runLength;
+      return runBytes <= 2 * cardinality && runBytes < 8 * WORDS;
+    }
+
+    /**
+     * Finds the index of the last run whose start is less than or equal to {@code low}, or a
+     * negative index if there is none.
+     */
+    private int floorRun(int low) {
+      int lowIndex = 0;
+      int highIndex = length / 2 - 1;
+      while (lowIndex <= highIndex) {
+        int mid = (lowIndex + highIndex) >>> 1;
+        if (runs[2 * mid] <= low) {
+          lowIndex = mid + 1;
+        } else {
+          highIndex = mid - 1;
+        }
+      }
+      return 2 * highIndex;
+    }
+  }
+}
@@ -0,0 +1,430 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compact binary encoding of ranges. A range is written as a one-byte type tag followed by its
+ * number of elements and, unless it is empty, its first element, signed step and end value.
+ * Integral values are written as variable-length integers in zigzag form, so small values take a
+ * single byte regardless of the range size: an {@code IntRange} of ten million elements takes eight
+ * bytes. The end value is written as its difference to the end value computed from the elements,
+ * which is zero for derived ranges and small for ranges created by a constructor, so decoded ranges
+ * have the same {@link Range#start() start}, {@link Range#end() end} and step as the encoded ones.
+ * Floating-point ranges write the exact bits of their base value and step, so decoded ranges
+ * compute exactly the same elements.
+ *
+ * <p>Lists of ranges are written as their length followed by each range. The first element of each
+ * integral range is written as the difference to the first element of the previous integral range,
+ * so sorted lists of nearby ranges stay small.
+ *
+ * <p>Ranges can be written to a {@link ByteBuffer} or a {@link DataOutput}, and are written byte by
+ * byte without any intermediate buffer.
+ */
+public final class RangeCodec {
+
+  private static final int BYTE = 1;
+  private static final int SHORT = 2;
+  private static final int INT = 3;
+  private static final int LONG = 4;
+  private static final int CHAR = 5;
+  private static final int DOUBLE = 6;
+  private static final int FLOAT = 7;
+
+  private RangeCodec() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Writes a range to a buffer, starting at its current position.
+   *
+   * @param range range to write
+   * @param dst destination buffer
+   * @throws java.nio.BufferOverflowException if the buffer does not have enough space remaining
+   */
+  public static void encode(Range<?> range, ByteBuffer dst) {
+    write(range, 0, dst::put);
+  }
+
+  /**
+   * Writes a range to a {@link DataOutput}.
+   *
+   * @param range range to write
+   * @param out destination output
+   * @throws IOException if writing to the output fails
+   */
+  public static void encode(Range<?> range, DataOutput out) throws IOException {
+    write(range, 0, out::writeByte);
+  }
+
+  /**
+   * Reads a range from a buffer, starting at its current position.
+   *
+   * @param src source buffer
+   * @return the decoded range
+   * @throws IllegalArgumentException if the buffer does not contain a valid range
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the range
+   */
+  public static Range<?> decode(ByteBuffer src) {
+    return read(src::get, new long[1]);
+  }
+
+  /**
+   * Reads a range from a {@link DataInput}.
+   *
+   * @param in source input
+   * @return the decoded range
+   * @throws IllegalArgumentException if the input does not contain a valid range
+   * @throws IOException if reading from the input fails
+   */
+  public static Range<?> decode(DataInput in) throws IOException {
+    return read(in::readByte, new long[1]);
+  }
+
+  /**
+   * Writes a list of ranges to a buffer, starting at its current position. The first elements of
+   * consecutive ranges are written as differences.
+   *
+   * @param ranges ranges to write
+   * @param dst destination buffer
+   * @throws java.nio.BufferOverflowException if the buffer does not have enough space remaining
+   */
+  public static void encodeAll(List<? extends Range<?>> ranges, ByteBuffer dst) {
+    writeAll(ranges, dst::put);
+  }
+
+  /**
+   * Writes a list of ranges to a {@link DataOutput}. The first elements of consecutive ranges are
+   * written as differences.
+   *
+   * @param ranges ranges to write
+   * @param out destination output
+   * @throws IOException if writing to the output fails
+   */
+  public static void encodeAll(List<? extends Range<?>> ranges, DataOutput out) throws IOException {
+    writeAll(ranges, out::writeByte);
+  }
+
+  /**
+   * Reads a list of ranges from a buffer, starting at its current position.
+   *
+   * @param src source buffer
+   * @return the decoded ranges, in the order they were written
+   * @throws IllegalArgumentException if the buffer does not contain a valid list of ranges
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the list
+   */
+  public static List<Range<?>> decodeAll(ByteBuffer src) {
+    return readAll(src::get);
+  }
+
+  /**
+   * Reads a list of ranges from a {@link DataInput}.
+   *
+   * @param in source input
+   * @return the decoded ranges, in the order they were written
+   * @throws IllegalArgumentException if the input does not contain a valid list of ranges
+   * @throws IOException if reading from the input fails
+   */
+  public static List<Range<?>> decodeAll(DataInput in) throws IOException {
+    return readAll(in::readByte);
+  }
+
+  /**
+   * Computes the number of bytes {@link #encode(Range, ByteBuffer)} writes for a range.
+   *
+   * @param range range to measure
+   * @return the encoded size in bytes
+   */
+  public static int encodedSize(Range<?> range) {
+    int[] count = new int[1];
+    write(range, 0, b -> count[0]++);
+    return count[0];
+  }
+
+  /** Destination of encoded bytes. */
+  @FunctionalInterface
+  private interface Sink<E extends Exception> {
+    void put(byte value) throws E;
+  }
+
+  /** Source of encoded bytes. */
+  @FunctionalInterface
+  private interface Source<E extends Exception> {
+    byte get() throws E;
+  }
+
+  private static <E extends Exception> void writeAll(List<? extends Range<?>> ranges, Sink<E> sink)
+      throws E {
+    writeVarLong(ranges.size(), sink);
+    long previous = 0;
+    for (var range : ranges) {
+      previous = write(range, previous, sink);
+    }
+  }
+
+  private static <E extends Exception> List<Range<?>> readAll(Source<E> source) throws E {
+    long count = readVarLong(source);
+    if (count < 0 || count > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid number of ranges: " + count);
+    }
+    List<Range<?>> ranges = new ArrayList<>((int) Math.min(count, 1024));
+    long[] previous = new long[1];
+    for (long i = 0; i < count; i++) {
+      ranges.add(read(source, previous));
+    }
+    return ranges;
+  }
+
+  /**
+   * Writes a range, with its first element relative to {@code previous} if it is integral.
+   *
+   * @return the first element of the range if it is integral and not empty, {@code previous}
+   *     otherwise
+   */
+  private static <E extends Exception> long write(Range<?> range, long previous, Sink<E> sink)
+      throws E {
+    int tag = tagOf(range);
+    sink.put((byte) tag);
+    writeVarLong(range.size, sink);
+    if (range.size == 0) {
+      return previous;
+    }
+    if (range instanceof DoubleRange doubles) {
+      writeFixed(Double.doubleToRawLongBits(doubles.base()), Long.BYTES, sink);
+      writeFixed(Double.doubleToRawLongBits(doubles.delta()), Long.BYTES, sink);
+      writeVarLong(doubles.offset(), sink);
+      double computed =
+          DoubleRange.endOf(doubles.base(), doubles.delta(), doubles.offset(), doubles.size);
+      writeVarLong(
+          zigzag(Double.doubleToRawLongBits(doubles.end) - Double.doubleToRawLongBits(computed)),
+          sink);
+      return previous;
+    }
+    if (range instanceof FloatRange floats) {
+      writeFixed(Float.floatToRawIntBits(floats.base()), Integer.BYTES, sink);
+      writeFixed(Float.floatToRawIntBits(floats.delta()), Integer.BYTES, sink);
+      writeVarLong(floats.offset(), sink);
+      float computed =
+          FloatRange.endOf(floats.base(), floats.delta(), floats.offset(), floats.size);
+      writeVarLong(
+          zigzag(Float.floatToRawIntBits(floats.end) - Float.floatToRawIntBits(computed)), sink);
+      return previous;
+    }
+    long first = integralValue(range.start);
+    long step = integralValue(range.step);
+    long end = integralValue(range.end);
+    long delta = first > end ? -step : step;
+    long last = first + (range.size - 1) * delta;
+    writeVarLong(zigzag(first - previous), sink);
+    writeVarLong(zigzag(delta), sink);
+    writeVarLong(zigzag(end - Progressions.end(last, delta, minValue(tag))), sink);
+    return first;
+  }
+
+  /**
+   * Reads a range, with its first element relative to {@code previous[0]} if it is integral. The
+   * first element of a non-empty integral range is stored back into {@code previous[0]}.
+   */
+  private static <E extends Exception> Range<?> read(Source<E> source, long[] previous) throws E {
+    int tag = source.get();
+    if (tag < BYTE || tag > FLOAT) {
+      throw new IllegalArgumentException("Unknown range type tag: " + tag);
+    }
+    long size = readVarLong(source);
+    if (size < 0) {
+      throw new IllegalArgumentException("Invalid range size: " + Long.toUnsignedString(size));
+    }
+    if (tag == DOUBLE || tag == FLOAT) {
+      return readFloatingPoint(tag, size, source);
+    }
+    if (size == 0) {
+      return emptyOf(tag);
+    }
+    long first = previous[0] + unzigzag(readVarLong(source));
+    long delta = unzigzag(readVarLong(source));
+    long min = minValue(tag);
+    long max = maxValue(tag);
+    checkIntegral(first, delta, size, min, max);
+    long last = first + (size - 1) * delta;
+    long end = Progressions.end(last, delta, min) + unzigzag(readVarLong(source));
+    if (end < min || end > max || (delta > 0 ? end < last : end > last)) {
+      throw new IllegalArgumentException("Invalid range end: " + end);
+    }
+    previous[0] = first;
+    return switch (tag) {
+      case BYTE -> ByteRange.of((byte) first, (int) delta, size, (byte) end);
+      case SHORT -> ShortRange.of((short) first, (int) delta, size, (short) end);
+      case INT -> IntRange.of((int) first, (int) delta, size, (int) end);
+      case LONG -> LongRange.of(first, delta, size, end);
+      default -> CharRange.of((char) first, (int) delta, size, (char) end);
+    };
+  }
+
+  private static <E extends Exception> Range<?> readFloatingPoint(
+      int tag, long size, Source<E> source) throws E {
+    if (size == 0) {
+      return tag == DOUBLE ? DoubleRange.EMPTY : FloatRange.EMPTY;
+    }
+    double base;
+    double delta;
+    if (tag == DOUBLE) {
+      base = Double.longBitsToDouble(readFixed(Long.BYTES, source));
+      delta = Double.longBitsToDouble(readFixed(Long.BYTES, source));
+    } else {
+      base = Float.intBitsToFloat((int) readFixed(Integer.BYTES, source));
+      delta = Float.intBitsToFloat((int) readFixed(Integer.BYTES, source));
+    }
+    long offset = readVarLong(source);
+    long endDifference = unzigzag(readVarLong(source));
+    if (!Double.isFinite(base)
+        || !Double.isFinite(delta)
+        || delta == 0
+        || offset < 0
+        || offset + size < 0) {
+      throw new IllegalArgumentException("Invalid floating-point range encoding");
+    }
+    if (tag == DOUBLE) {
+      double computed = DoubleRange.endOf(base, delta, offset, size);
+      double end = Double.longBitsToDouble(Double.doubleToRawLongBits(computed) + endDifference);
+      checkFiniteEnd(end);
+      return DoubleRange.of(base, delta, offset, size, end);
+    }
+    float computed = FloatRange.endOf((float) base, (float) delta, offset, size);
+    float end = Float.intBitsToFloat(Float.floatToRawIntBits(computed) + (int) endDifference);
+    checkFiniteEnd(end);
+    return FloatRange.of((float) base, (float) delta, offset, size, end);
+  }
+
+  private static void checkFiniteEnd(double end) {
+    if (!Double.isFinite(end)) {
+      throw new IllegalArgumentException("Invalid range end: " + end);
+    }
+  }
+
+  private static long minValue(int tag) {
+    return switch (tag) {
+      case BYTE -> Byte.MIN_VALUE;
+      case SHORT -> Short.MIN_VALUE;
+      case INT -> Integer.MIN_VALUE;
+      case LONG -> Long.MIN_VALUE;
+      default -> Character.MIN_VALUE;
+    };
+  }
+
+  private static long maxValue(int tag) {
+    return switch (tag) {
+      case BYTE -> Byte.MAX_VALUE;
+      case SHORT -> Short.MAX_VALUE;
+      case INT -> Integer.MAX_VALUE;
+      case LONG -> Long.MAX_VALUE;
+      default -> Character.MAX_VALUE;
+    };
+  }
+
+  private static Range<?> emptyOf(int tag) {
+    return switch (tag) {
+      case BYTE -> ByteRange.EMPTY;
+      case SHORT -> ShortRange.EMPTY;
+      case INT -> IntRange.EMPTY;
+      case LONG -> LongRange.EMPTY;
+      case CHAR -> CharRange.EMPTY;
+      default -> throw new IllegalArgumentException("Unknown range type tag: " + tag);
+    };
+  }
+
+  /** Checks that a decoded integral range has a valid step and that all elements fit the type. */
+  private static void checkIntegral(long first, long delta, long size, long min, long max) {
+    var last =
+        BigInteger.valueOf(delta)
+            .multiply(BigInteger.valueOf(size - 1))
+            .add(BigInteger.valueOf(first));
+    if (first < min
+        || first > max
+        || delta == 0
+        || delta == Long.MIN_VALUE
+        || Math.abs(delta) > max
+        || last.compareTo(BigInteger.valueOf(min)) < 0
+        || last.compareTo(BigInteger.valueOf(max)) > 0) {
+      throw new IllegalArgumentException("Invalid range encoding");
+    }
+  }
+
+  private static int tagOf(Range<?> range) {
+    if (range instanceof ByteRange) {
+      return BYTE;
+    }
+    if (range instanceof ShortRange) {
+      return SHORT;
+    }
+    if (range instanceof IntRange) {
+      return INT;
+    }
+    if (range instanceof LongRange) {
+      return LONG;
+    }
+    if (range instanceof CharRange) {
+      return CHAR;
+    }
+    return range instanceof DoubleRange ? DOUBLE : FLOAT;
+  }
+
+  private static long integralValue(Object value) {
+    return value instanceof Character c ? c : ((Number) value).longValue();
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static <E extends Exception> void writeVarLong(long value, Sink<E> sink) throws E {
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0) {
+      sink.put((byte) (remaining & 0x7F | 0x80));
+      remaining >>>= 7;
+    }
+    sink.put((byte) remaining);
+  }
+
+  private static <E extends Exception> long readVarLong(Source<E> source) throws E {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = source.get();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed variable-length integer");
+  }
+
+  private static <E extends Exception> void writeFixed(long value, int bytes, Sink<E> sink)
+      throws E {
+    for (int i = 0; i < bytes; i++) {
+      sink.put((byte) (value >>> (8 * i)));
+    }
+  }
+
+  private static <E extends Exception> long readFixed(int bytes, Source<E> source) throws E {
+    long value = 0;
+    for (int i = 0; i < bytes; i++) {
+      value |= (source.get() & 0xFFL) << (8 * i);
+    }
+    return value;
+  }
+}
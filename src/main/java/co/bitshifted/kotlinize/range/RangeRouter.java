@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An immutable map from disjoint ranges of keys to values, such as from key ranges to the shards
+ * that own them. Looking up the value for a key takes {@code O(log n)} comparisons.
+ *
+ * <p>Ranges are kept sorted by their start in parallel arrays, and a lookup finds the last range
+ * which starts at or before the key with a binary search, then checks the end of that range. Keys
+ * are compared with the comparator of the router, not with the comparators of the added ranges.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class RangeRouter<K, V> {
+
+  private final Object[] starts;
+  private final Object[] ends;
+  private final boolean[] inclusive;
+  private final Object[] values;
+
+  /** Comparator of the keys, or {@code null} for the natural ordering. */
+  private final Comparator<? super K> comparator;
+
+  private RangeRouter(
+      Object[] starts,
+      Object[] ends,
+      boolean[] inclusive,
+      Object[] values,
+      Comparator<? super K> comparator) {
+    this.starts = starts;
+    this.ends = ends;
+    this.inclusive = inclusive;
+    this.values = values;
+    this.comparator = comparator;
+  }
+
+  /**
+   * Creates a builder for a router whose keys are ordered by their natural ordering.
+   *
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @return a new builder
+   */
+  public static <K extends Comparable<? super K>, V> Builder<K, V> builder() {
+    return new Builder<>(null);
+  }
+
+  /**
+   * Creates a builder for a router whose keys are ordered by the given comparator.
+   *
+   * @param comparator the comparator ordering the keys
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @return a new builder
+   */
+  public static <K, V> Builder<K, V> builder(Comparator<? super K> comparator) {
+    return new Builder<>(Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Returns the number of ranges in the router.
+   *
+   * @return the number of ranges
+   */
+  public int size() {
+    return starts.length;
+  }
+
+  /**
+   * Returns the value of the range which contains the given key.
+   *
+   * @param key key to look up
+   * @return the value of the matching range, or an empty {@link Optional} if no range contains the
+   *     key
+   */
+  public Optional<V> route(K key) {
+    return Optional.ofNullable(routeOrDefault(key, null));
+  }
+
+  /**
+   * Returns the value of the range which contains the given key, or a default value. Unlike {@link
+   * #route(Object)}, this method does not allocate.
+   *
+   * @param key key to look up
+   * @param defaultValue value to return if no range contains the key
+   * @return the value of the matching range, or {@code defaultValue}
+   */
+  @SuppressWarnings("unchecked")
+  public V routeOrDefault(K key, V defaultValue) {
+    int low = 0;
+    int high = starts.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (ClosedRange.compare(comparator, (K) starts[mid], key) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    if (high < 0) {
+      return defaultValue;
+    }
+    int order = ClosedRange.compare(comparator, key, (K) ends[high]);
+    return order < 0 || order == 0 && inclusive[high] ? (V) values[high] : defaultValue;
+  }
+
+  /**
+   * Builder for {@link RangeRouter}. Ranges are collected as they are added, and sorted and checked
+   * for overlaps once when the router is built.
+   *
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   */
+  public static final class Builder<K, V> {
+
+    private final Comparator<? super K> comparator;
+    private final List<Route<K>> routes = new ArrayList<>();
+
+    private Builder(Comparator<? super K> comparator) {
+      this.comparator = comparator;
+    }
+
+    /**
+     * Adds a range with its value. Empty ranges are ignored.
+     *
+     * @param range range of keys
+     * @param value value of the keys in the range
+     * @return this builder
+     */
+    public Builder<K, V> add(ClosedRange<K> range, V value) {
+      if (ClosedRange.compare(comparator, range.start(), range.endInclusive()) <= 0) {
+        routes.add(new Route<>(range.start(), range.endInclusive(), true, value));
+      }
+      return this;
+    }
+
+    /**
+     * Adds a range with its value. Empty ranges are ignored.
+     *
+     * @param range range of keys
+     * @param value value of the keys in the range
+     * @return this builder
+     */
+    public Builder<K, V> add(OpenEndRange<K> range, V value) {
+      if (ClosedRange.compare(comparator, range.start(), range.endExclusive()) < 0) {
+        routes.add(new Route<>(range.start(), range.endExclusive(), false, value));
+      }
+      return this;
+    }
+
+    /**
+     * Builds the router. The builder can be reused afterwards; the router does not share state with
+     * it.
+     *
+     * @return a new router
+     * @throws IllegalArgumentException if any two ranges overlap
+     */
+    public RangeRouter<K, V> build() {
+      var sorted = new ArrayList<>(routes);
+      sorted.sort((a, b) -> ClosedRange.compare(comparator, a.start(), b.start()));
+      int count = sorted.size();
+      var starts = new Object[count];
+      var ends = new Object[count];
+      var inclusive = new boolean[count];
+      var values = new Object[count];
+      for (int i = 0; i < count; i++) {
+        var route = sorted.get(i);
+        if (i > 0) {
+          var previous = sorted.get(i - 1);
+          int order = ClosedRange.compare(comparator, route.start(), previous.end());
+          if (order < 0 || order == 0 && previous.inclusive()) {
+            throw new IllegalArgumentException("Ranges overlap: " + previous + " and " + route);
+          }
+        }
+        starts[i] = route.start();
+        ends[i] = route.end();
+        inclusive[i] = route.inclusive();
+        values[i] = route.value();
+      }
+      return new RangeRouter<>(starts, ends, inclusive, values, comparator);
+    }
+  }
+
+  /**
+   * A range of keys with its value.
+   *
+   * @param start start of the range (inclusive)
+   * @param end end of the range
+   * @param inclusive whether the end is inclusive
+   * @param value value of the keys in the range
+   * @param <K> the type of the keys
+   */
+  private record Route<K>(K start, K end, boolean inclusive, Object value) {
+
+    @Override
+    public String toString() {
+      return start + (inclusive ? ".." : "..<") + end;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Lazy lists of sub-ranges. Each sub-range is created when it is first requested from the list, so
+ * cutting a range into batches costs a single small object per batch.
+ */
+final class RangeSlices {
+
+  private RangeSlices() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Creates a sub-range from a half-open interval of element indices.
+   *
+   * @param <R> the type of the sub-range
+   */
+  @FunctionalInterface
+  interface Slicer<R> {
+
+    /**
+     * Creates a sub-range.
+     *
+     * @param fromIndex index of the first element (inclusive)
+     * @param toIndex index of the last element (exclusive)
+     * @return the sub-range
+     */
+    R slice(long fromIndex, long toIndex);
+  }
+
+  /**
+   * Cuts a range into consecutive chunks of the given size. The last chunk may be smaller.
+   *
+   * @param size number of elements in the range
+   * @param chunkSize number of elements in each chunk
+   * @param slicer function creating a sub-range
+   * @param <R> the type of the sub-ranges
+   * @return a lazy list of chunks
+   * @throws IllegalArgumentException if {@code chunkSize} is not positive, or the range would be
+   *     cut into more than {@link Integer#MAX_VALUE} chunks
+   */
+  static <R> List<R> chunked(long size, long chunkSize, Slicer<R> slicer) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be positive, was: " + chunkSize);
+    }
+    long chunks = size == 0 ? 0 : (size - 1) / chunkSize + 1;
+    if (chunks > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many chunks: " + chunks);
+    }
+    return new Slices<>((int) chunks) {
+      @Override
+      public R get(int index) {
+        long from = checkIndex(index) * chunkSize;
+        return slicer.slice(from, Math.min(from + chunkSize, size));
+      }
+    };
+  }
+
+  /**
+   * Splits a range into the given number of consecutive parts whose sizes differ by at most one. If
+   * the range has fewer elements than {@code parts}, the trailing parts are empty.
+   *
+   * @param size number of elements in the range
+   * @param parts number of parts
+   * @param slicer function creating a sub-range
+   * @param <R> the type of the sub-ranges
+   * @return a lazy list of parts
+   * @throws IllegalArgumentException if {@code parts} is not positive
+   */
+  static <R> List<R> split(long size, int parts, Slicer<R> slicer) {
+    if (parts <= 0) {
+      throw new IllegalArgumentException("Number of parts must be positive, was: " + parts);
+    }
+    long quotient = size / parts;
+    long remainder = size % parts;
+    return new Slices<>(parts) {
+      @Override
+      public R get(int index) {
+        long part = checkIndex(index);
+        long from = part * quotient + Math.min(part, remainder);
+        long length = quotient + (part < remainder ? 1 : 0);
+        return slicer.slice(from, from + length);
+      }
+    };
+  }
+
+  private abstract static class Slices<R> extends AbstractList<R> implements RandomAccess {
+
+    private final int count;
+
+    Slices(int count) {
+      this.count = count;
+    }
+
+    long checkIndex(int index) {
+      if (index < 0 || index >= count) {
+        throw new IndexOutOfBoundsException(
+            "Index " + index + " out of bounds for length " + count);
+      }
+      return index;
+    }
+
+    @Override
+    public int size() {
+      return count;
+    }
+  }
+}
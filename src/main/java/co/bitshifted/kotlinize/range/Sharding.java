@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Arithmetic for distributing the elements of a range between a number of shards. */
+final class Sharding {
+
+  private Sharding() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Checks that a shard index is valid for the given number of shards.
+   *
+   * @param index index of the shard
+   * @param count number of shards
+   * @throws IllegalArgumentException if {@code count} is not positive
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@code count}
+   */
+  static void checkShard(int index, int count) {
+    if (count <= 0) {
+      throw new IllegalArgumentException("Number of shards must be positive, was: " + count);
+    }
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException(
+          "Shard " + index + " out of bounds for " + count + " shards");
+    }
+  }
+
+  /**
+   * Computes the number of elements of a strided shard, which takes every {@code count}-th element
+   * of a range, starting at index {@code index}.
+   *
+   * @param size number of elements in the range
+   * @param index index of the shard
+   * @param count number of shards
+   * @return number of elements in the shard
+   */
+  static long stridedSize(long size, int index, int count) {
+    return index < size ? (size - index - 1) / count + 1 : 0;
+  }
+
+  /**
+   * Assigns a key to one of {@code buckets} buckets with the jump consistent hash of Lamping and
+   * Veach. When the number of buckets grows from {@code n} to {@code n + 1}, only {@code 1 / (n +
+   * 1)} of the keys move, and all of them move to the new bucket.
+   *
+   * @param key key to assign
+   * @param buckets number of buckets
+   * @return the bucket of the key, between {@code 0} and {@code buckets - 1}
+   */
+  static int jumpHash(long key, int buckets) {
+    long state = key;
+    long bucket = -1;
+    long next = 0;
+    while (next < buckets) {
+      bucket = next;
+      state = state * 2862933555777941757L + 1;
+      next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((state >>> 33) + 1)));
+    }
+    return (int) bucket;
+  }
+
+  /**
+   * Collects the blocks of a range which are assigned to a shard by the jump consistent hash. The
+   * range is cut into blocks of {@code blockSize} elements, and each block is assigned by hashing
+   * its position.
+   *
+   * @param blocks the blocks of the range
+   * @param index index of the shard
+   * @param count number of shards
+   * @param <R> the type of the range
+   * @return the blocks assigned to the shard, in range order
+   */
+  static <R> List<R> consistentBlocks(List<R> blocks, int index, int count) {
+    checkShard(index, count);
+    List<R> result = new ArrayList<>();
+    for (int i = 0; i < blocks.size(); i++) {
+      if (jumpHash(i, count) == index) {
+        result.add(blocks.get(i));
+      }
+    }
+    return result;
+  }
+}
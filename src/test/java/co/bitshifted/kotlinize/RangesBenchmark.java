@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize;
+
+import co.bitshifted.kotlinize.range.ByteRange;
+import co.bitshifted.kotlinize.range.CharRange;
+import co.bitshifted.kotlinize.range.IntRange;
+import co.bitshifted.kotlinize.range.LongRange;
+import co.bitshifted.kotlinize.range.Range;
+import co.bitshifted.kotlinize.range.ShortRange;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of creating ranges through the old string-based type dispatch, the class-keyed
+ * generic factory and the primitive overloads of {@link Ranges}. JMH forks a new JVM for each
+ * benchmark, so it has to be started in a JVM of its own with the test classpath:
+ *
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     "-Dexec.args=-cp %classpath org.openjdk.jmh.Main RangesBenchmark"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangesBenchmark {
+
+  private int intStart = 1;
+  private int intEnd = 1000;
+  private long longStart = 1L;
+  private long longEnd = 1000L;
+
+  /**
+   * Runs the benchmarks.
+   *
+   * @param args JMH command line arguments
+   * @throws Exception if the benchmarks fail to run
+   */
+  public static void main(String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  /** Creates an int range through the string-based dispatch used before the typed factories. */
+  @Benchmark
+  public Range<Integer> intLegacySwitch() {
+    return legacyRange((Integer) intStart, (Integer) intEnd, (Integer) 1);
+  }
+
+  /** Creates an int range through the class-keyed generic factory. */
+  @Benchmark
+  public Range<Integer> intGenericFactory() {
+    return Ranges.range((Integer) intStart, (Integer) intEnd, (Integer) 1);
+  }
+
+  /** Creates an int range through the primitive overload. */
+  @Benchmark
+  public IntRange intPrimitive() {
+    return Ranges.range(intStart, intEnd, 1);
+  }
+
+  /** Creates a long range through the string-based dispatch used before the typed factories. */
+  @Benchmark
+  public Range<Long> longLegacySwitch() {
+    return legacyRange((Long) longStart, (Long) longEnd, (Long) 1L);
+  }
+
+  /** Creates a long range through the class-keyed generic factory. */
+  @Benchmark
+  public Range<Long> longGenericFactory() {
+    return Ranges.range((Long) longStart, (Long) longEnd, (Long) 1L);
+  }
+
+  /** Creates a long range through the primitive overload. */
+  @Benchmark
+  public LongRange longPrimitive() {
+    return Ranges.range(longStart, longEnd, 1L);
+  }
+
+  /** Copy of the former {@code Ranges.range(T, T, T)} implementation, kept as a baseline. */
+  @SuppressWarnings("unchecked")
+  private static <T> Range<T> legacyRange(T start, T endInclusive, T step) {
+    var type = start.getClass().getSimpleName();
+    return switch (type) {
+      case "Byte" -> (Range<T>) new ByteRange((Byte) start, (Byte) endInclusive, (Byte) step);
+      case "Short" -> (Range<T>) new ShortRange((Short) start, (Short) endInclusive, (Short) step);
+      case "Integer" -> (Range<T>)
+          new IntRange((Integer) start, (Integer) endInclusive, (Integer) step);
+      case "Long" -> (Range<T>) new LongRange((Long) start, (Long) endInclusive, (Long) step);
+      case "Character" -> (Range<T>)
+          new CharRange((Character) start, (Character) endInclusive, (Character) step);
+      default -> throw new IllegalArgumentException("Unsupported type: " + type);
+    };
+  }
+}
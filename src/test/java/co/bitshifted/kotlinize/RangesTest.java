@@ -11,6 +11,21 @@ import static co.bitshifted.kotlinize.Ranges.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import co.bitshifted.kotlinize.range.ByteRange;
+import co.bitshifted.kotlinize.range.CharRange;
+import co.bitshifted.kotlinize.range.DoubleRange;
+import co.bitshifted.kotlinize.range.FloatRange;
+import co.bitshifted.kotlinize.range.IntRange;
+import co.bitshifted.kotlinize.range.LongRange;
+import co.bitshifted.kotlinize.range.ShortRange;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
 import org.junit.jupiter.api.Test;
 
 public class RangesTest {
@@ -79,4 +94,292 @@ public class RangesTest {
     assertEquals('e', range.first());
     assertEquals('b', range.last());
   }
+
+  @Test
+  void shouldVisitEveryElementOnceInParallel() {
+    var visited = new AtomicIntegerArray(1000);
+    parallelFor(new IntRange(0, 999), i -> visited.incrementAndGet(i));
+    for (int i = 0; i < visited.length(); i++) {
+      assertEquals(1, visited.get(i));
+    }
+
+    var sum = new LongAdder();
+    parallelFor(new LongRange(1, 100_000, 3), ForkJoinPool.commonPool(), 7, sum::add);
+    assertEquals(new LongRange(1, 100_000, 3).sum().longValue(), sum.sum());
+
+    parallelFor(IntRange.EMPTY, i -> fail("Empty range has no elements"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> parallelFor(new IntRange(1, 10), ForkJoinPool.commonPool(), 0, i -> {}));
+  }
+
+  @Test
+  void shouldRunParallelForInCustomPool() {
+    var pool = new ForkJoinPool(3);
+    try {
+      var count = new LongAdder();
+      parallelFor(new IntRange(1, 10_000), pool, 100, i -> count.increment());
+      assertEquals(10_000, count.sum());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void shouldPropagateExceptionFromParallelFor() {
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            parallelFor(
+                new IntRange(1, 1000),
+                i -> {
+                  if (i == 500) {
+                    throw new IllegalStateException("Failed at " + i);
+                  }
+                }));
+  }
+
+  @Test
+  void shouldMapReduceInElementOrder() {
+    String digits =
+        parallelMapReduce(
+            new IntRange(0, 9), ForkJoinPool.commonPool(), 1, String::valueOf, "", String::concat);
+    assertEquals("0123456789", digits);
+
+    long sum = parallelMapReduce(new LongRange(1, 1_000_000), i -> i, 0L, Long::sum);
+    assertEquals(500_000_500_000L, sum);
+    assertEquals("", parallelMapReduce(IntRange.EMPTY, String::valueOf, "", String::concat));
+  }
+
+  @Test
+  void shouldLimitConcurrency() {
+    var running = new AtomicInteger();
+    var peak = new AtomicInteger();
+    var visited = new AtomicIntegerArray(50);
+    forEachConcurrent(
+        new IntRange(0, 49),
+        4,
+        i -> {
+          peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+          Thread.sleep(2);
+          visited.incrementAndGet(i);
+          running.decrementAndGet();
+        });
+    assertTrue(peak.get() <= 4);
+    for (int i = 0; i < visited.length(); i++) {
+      assertEquals(1, visited.get(i));
+    }
+  }
+
+  @Test
+  void shouldStopOnFirstFailure() {
+    var started = new AtomicInteger();
+    var failure =
+        assertThrows(
+            RuntimeException.class,
+            () ->
+                forEachConcurrent(
+                    new LongRange(1, 10_000),
+                    2,
+                    i -> {
+                      started.incrementAndGet();
+                      if (i == 5) {
+                        throw new IOException("Failed to read " + i);
+                      }
+                    }));
+    assertInstanceOf(IOException.class, failure.getCause());
+    assertTrue(started.get() < 10_000);
+    assertThrows(
+        IllegalArgumentException.class, () -> forEachConcurrent(new IntRange(1, 10), 0, i -> {}));
+  }
+
+  @Test
+  void shouldWaitForSubmittedActionsWhenIterationFails() {
+    var completed = new AtomicInteger();
+    Iterable<Integer> failing =
+        () ->
+            new Iterator<>() {
+              private int next;
+
+              @Override
+              public boolean hasNext() {
+                return true;
+              }
+
+              @Override
+              public Integer next() {
+                if (next == 3) {
+                  throw new IllegalStateException("Source closed");
+                }
+                return next++;
+              }
+            };
+    var failure =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                ConcurrentLoops.forEach(
+                    failing,
+                    2,
+                    i -> {
+                      Thread.sleep(20);
+                      completed.incrementAndGet();
+                    }));
+    assertEquals("Source closed", failure.getMessage());
+    assertEquals(3, completed.get());
+  }
+
+  @Test
+  void shouldInitializeFloatingPointRanges() {
+    var range = range(0.0, 1.0, 0.5);
+    assertInstanceOf(DoubleRange.class, range);
+    assertEquals(1.0, range.last());
+
+    var floats = range(0f, 1f, 0.5f);
+    assertInstanceOf(FloatRange.class, floats);
+    assertEquals(3, floats.count());
+  }
+
+  @Test
+  void primitiveOverloadsShouldReturnTypedRanges() {
+    IntRange ints = range(1, 5);
+    assertEquals(5, ints.count());
+    LongRange longs = range(1L, 10L, 3L);
+    assertEquals(10L, longs.last());
+    CharRange chars = range('a', 'e', (char) 2);
+    assertEquals('e', chars.last());
+    ShortRange shorts = range((short) 1, (short) 3);
+    assertEquals(3, shorts.count());
+    DoubleRange doubles = range(0.0, 1.0, 0.25);
+    assertEquals(5, doubles.count());
+  }
+
+  @Test
+  void genericRangeShouldDispatchOnClass() {
+    Object start = 1;
+    Object end = 4;
+    assertInstanceOf(IntRange.class, range(start, end));
+    assertInstanceOf(DoubleRange.class, range((Object) 1.0, (Object) 3.0));
+    assertEquals(3, range((Object) 1.0, (Object) 3.0).count());
+    var error = assertThrows(IllegalArgumentException.class, () -> range("a", "b"));
+    assertEquals("Unsupported type: String", error.getMessage());
+  }
+
+  @Test
+  void rangeUntilShouldExcludeEnd() {
+    assertEquals(List.of(0, 1, 2), rangeUntil(0, 3).stream().toList());
+    assertTrue(rangeUntil(3, 3).isEmpty());
+    assertTrue(rangeUntil(5, 3).isEmpty());
+    assertTrue(rangeUntil(Integer.MIN_VALUE, Integer.MIN_VALUE).isEmpty());
+    assertEquals(Long.MAX_VALUE - 1, rangeUntil(0L, Long.MAX_VALUE).last());
+    assertEquals('y', rangeUntil('a', 'z').last());
+  }
+
+  @Test
+  void downToShouldIncludeEnd() {
+    assertEquals(List.of(3, 2, 1), downTo(3, 1).stream().toList());
+    assertEquals(1, downTo(3, 3).count());
+    assertTrue(downTo(1, 3).isEmpty());
+    var full = downTo(Integer.MIN_VALUE + 1, Integer.MIN_VALUE);
+    assertEquals(Integer.MIN_VALUE, full.last());
+    assertEquals(2, full.count());
+    assertEquals(Long.MIN_VALUE, downTo(Long.MIN_VALUE + 2, Long.MIN_VALUE).last());
+    assertThrows(IllegalArgumentException.class, () -> downTo(0L, Long.MIN_VALUE));
+    assertEquals('a', downTo('c', 'a').last());
+  }
+
+  @Test
+  void parallelSearchesShouldMatchSequentialResults() {
+    var range = new IntRange(0, 4095);
+    assertTrue(parallelAny(range, i -> i == 3000));
+    assertFalse(parallelAny(range, i -> i > 5000));
+    assertTrue(parallelAll(range, i -> i >= 0));
+    assertFalse(parallelAll(range, i -> i != 17));
+    assertTrue(parallelNone(range, i -> i < 0));
+    assertFalse(parallelAny(IntRange.EMPTY, i -> true));
+    assertTrue(parallelAll(IntRange.EMPTY, i -> false));
+  }
+
+  @Test
+  void parallelFirstAndLastMatchingShouldRespectOrder() {
+    var range = new IntRange(0, 100_000);
+    for (int attempt = 0; attempt < 20; attempt++) {
+      assertEquals(OptionalInt.of(77), parallelFirstMatching(range, i -> i % 7 == 0 && i > 70));
+      assertEquals(
+          OptionalInt.of(99_995), parallelLastMatching(range, i -> i % 5 == 0 && i < 99_999));
+    }
+    assertEquals(OptionalInt.empty(), parallelFirstMatching(range, i -> i < 0));
+    assertEquals(
+        OptionalInt.of(98), parallelFirstMatching(new IntRange(100, 0, 2), i -> i % 7 == 0));
+
+    var longs = new LongRange(1L << 40, (1L << 40) + 10_000_000L, 1000);
+    assertEquals(
+        OptionalLong.of((1L << 40) + 5000), parallelFirstMatching(longs, l -> l % 10_000 == 2776));
+    assertEquals(OptionalLong.of(1L << 40), parallelLastMatching(longs, l -> l == 1L << 40));
+    assertTrue(parallelNone(longs, l -> l < 0));
+  }
+
+  @Test
+  void parallelSearchShouldStopEarly() {
+    var tested = new LongAdder();
+    assertTrue(
+        parallelAny(
+            new IntRange(0, 1_000_000),
+            i -> {
+              tested.increment();
+              return true;
+            }));
+    assertTrue(tested.sum() < 1_000_000);
+  }
+
+  @Test
+  void firstTrueShouldUseLogarithmicNumberOfEvaluations() {
+    var calls = new AtomicInteger();
+    var range = new IntRange(0, 1_000_000);
+    var result =
+        firstTrue(
+            range,
+            i -> {
+              calls.incrementAndGet();
+              return i >= 123_456;
+            });
+    assertEquals(OptionalInt.of(123_456), result);
+    assertTrue(calls.get() <= 21);
+    assertEquals(OptionalInt.empty(), firstTrue(range, i -> false));
+    assertEquals(OptionalInt.of(0), firstTrue(range, i -> true));
+    assertEquals(OptionalInt.empty(), firstTrue(IntRange.EMPTY, i -> true));
+    assertEquals(OptionalInt.of(49), firstTrue(new IntRange(100, 0, 3), i -> i < 50));
+  }
+
+  @Test
+  void lastTrueShouldFindThreshold() {
+    var range = new LongRange(Long.MIN_VALUE, Long.MAX_VALUE, 1L << 32);
+    assertEquals(OptionalLong.of(0), lastTrue(range, l -> l <= 5));
+    assertEquals(OptionalLong.empty(), lastTrue(range, l -> false));
+    assertEquals(OptionalLong.of(range.last()), lastTrue(range, l -> true));
+    assertEquals(OptionalInt.of(7), lastTrue(new IntRange(1, 10), i -> i * i < 50));
+    assertEquals(OptionalLong.of(1L << 33), firstTrue(range, l -> l > (1L << 32)));
+  }
+
+  @Test
+  void gallopingSearchShouldHandleUnboundedEnds() {
+    var calls = new AtomicInteger();
+    var result =
+        firstTrueFrom(
+            10,
+            l -> {
+              calls.incrementAndGet();
+              return l >= 1_000;
+            });
+    assertEquals(OptionalLong.of(1_000), result);
+    assertTrue(calls.get() <= 25);
+    assertEquals(OptionalLong.empty(), firstTrueFrom(0, l -> false));
+    assertEquals(OptionalLong.of(Long.MAX_VALUE), firstTrueFrom(0, l -> l == Long.MAX_VALUE));
+    assertEquals(OptionalLong.of(Long.MIN_VALUE), firstTrueFrom(Long.MIN_VALUE, l -> true));
+    assertEquals(OptionalLong.of(-3), firstTrueFrom(Long.MIN_VALUE, l -> l >= -3));
+
+    assertEquals(OptionalLong.of(4096), lastTrueFrom(1, batch -> batch <= 4096));
+    assertEquals(OptionalLong.empty(), lastTrueFrom(1, batch -> false));
+    assertEquals(OptionalLong.of(Long.MAX_VALUE), lastTrueFrom(-5, batch -> true));
+  }
 }
@@ -96,4 +96,43 @@ public class ByteRangeTest {
     var range = new ByteRange((byte) 1, (byte) 5);
     assertEquals(5, range.distinct().size());
   }
+
+  @Test
+  void shouldStopAtUpperBoundWithoutOverflow() {
+    var range = new ByteRange((byte) 120, Byte.MAX_VALUE, (byte) 3);
+    assertEquals(3, range.count()); // 120, 123, 126
+    assertEquals((byte) 126, range.last());
+  }
+
+  @Test
+  void shouldComputeAggregatesInClosedForm() {
+    var range = new ByteRange(Byte.MIN_VALUE, Byte.MAX_VALUE);
+    assertEquals(-128L, range.sum());
+    assertEquals(Byte.MIN_VALUE, range.min());
+    assertEquals(Byte.MAX_VALUE, range.max());
+    assertEquals(-0.5, range.average());
+  }
+
+  @Test
+  void shouldMaterializeIntoArray() {
+    assertArrayEquals(new byte[] {-2, -1, 0, 1}, new ByteRange((byte) -2, (byte) 1).toByteArray());
+  }
+
+  @Test
+  void reversedStepAndUntilShouldCreateViews() {
+    var range = new ByteRange((byte) 1, (byte) 10);
+    assertArrayEquals(new byte[] {10, 9, 8, 7, 6, 5, 4, 3, 2, 1}, range.reversed().toByteArray());
+    assertEquals((byte) 0, range.reversed().end());
+    assertArrayEquals(new byte[] {1, 4, 7, 10}, range.step(3).toByteArray());
+    assertArrayEquals(new byte[] {10, 7, 4, 1}, range.step(3).reversed().toByteArray());
+    assertArrayEquals(new byte[] {1, 2, 3}, range.until((byte) 4).toByteArray());
+    assertArrayEquals(new byte[] {10, 9}, range.reversed().until((byte) 8).toByteArray());
+    assertTrue(range.until((byte) 1).isEmpty());
+
+    var full = new ByteRange(Byte.MIN_VALUE, Byte.MAX_VALUE);
+    assertArrayEquals(new byte[] {Byte.MIN_VALUE}, full.step(Integer.MAX_VALUE).toByteArray());
+    assertArrayEquals(new byte[] {Byte.MAX_VALUE}, full.reversed().step(70_000).toByteArray());
+    assertThrows(ArithmeticException.class, () -> full.step(Byte.MAX_VALUE + 1));
+    assertThrows(IllegalArgumentException.class, () -> range.step(0));
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class CharClassTest {
+
+  private static final CharClass IDENTIFIER =
+      CharClass.of(new CharRange('a', 'z'), new CharRange('A', 'Z'), new CharRange('0', '9'))
+          .union(CharClass.ofChars('_'));
+
+  @Test
+  void shouldMatchCharactersOfRanges() {
+    assertTrue(IDENTIFIER.matches('a'));
+    assertTrue(IDENTIFIER.matches('Z'));
+    assertTrue(IDENTIFIER.matches('_'));
+    assertFalse(IDENTIFIER.matches('-'));
+    assertFalse(IDENTIFIER.matches('é'));
+    assertEquals(4, IDENTIFIER.asRanges().size());
+    assertEquals(63, IDENTIFIER.cardinality());
+  }
+
+  @Test
+  void shouldMatchCharactersOutsideAscii() {
+    var greek = CharClass.of(new CharRange('Α', 'Ω'), new CharRange('￐', '￿'));
+    assertTrue(greek.matches('Α'));
+    assertTrue(greek.matches('Ω'));
+    assertTrue(greek.matches('￿'));
+    assertFalse(greek.matches('ΐ'));
+    assertFalse(greek.matches('A'));
+  }
+
+  @Test
+  void shouldAddEachElementOfSteppedRange() {
+    var even = CharClass.of(new CharRange('0', '9', (char) 2));
+    assertTrue(even.matches('0'));
+    assertFalse(even.matches('1'));
+    assertTrue(even.matches('8'));
+    assertEquals(5, even.cardinality());
+  }
+
+  @Test
+  void shouldMergeOverlappingAndUnsortedRanges() {
+    var merged =
+        CharClass.of(new CharRange('m', 'z'), new CharRange('＀', '￿'), new CharRange('a', 'n'));
+    assertEquals(2, merged.asRanges().size());
+    assertEquals('a', merged.asRanges().get(0).first());
+    assertEquals('z', merged.asRanges().get(0).last());
+  }
+
+  @Test
+  void shouldComputeComplementAndIntersection() {
+    var nonIdentifier = IDENTIFIER.complement();
+    assertFalse(nonIdentifier.matches('a'));
+    assertTrue(nonIdentifier.matches(' '));
+    assertTrue(nonIdentifier.matches(Character.MIN_VALUE));
+    assertTrue(nonIdentifier.matches(Character.MAX_VALUE));
+    assertEquals(65536 - 63, nonIdentifier.cardinality());
+    assertTrue(IDENTIFIER.intersect(nonIdentifier).isEmpty());
+    assertEquals(65536, IDENTIFIER.union(nonIdentifier).cardinality());
+
+    var letters = CharClass.of(new CharRange('a', 'z'));
+    var hex = IDENTIFIER.intersect(CharClass.of(new CharRange('0', '9'), new CharRange('a', 'f')));
+    assertEquals(16, hex.cardinality());
+    assertEquals(20, letters.minus(hex).cardinality());
+    assertTrue(CharClass.EMPTY.complement().matches('ሴ'));
+  }
+
+  @Test
+  void shouldScanCharSequences() {
+    var text = "foo_bar1 = baz";
+    assertEquals(8, IDENTIFIER.indexOfFirstNotIn(text, 0));
+    assertEquals(11, IDENTIFIER.indexOfFirstIn(text, 8));
+    assertEquals(-1, IDENTIFIER.indexOfFirstNotIn(text, 11));
+    assertEquals(8, IDENTIFIER.indexOfFirstNotIn(text, -5));
+    assertEquals(-1, IDENTIFIER.indexOfFirstIn(text, text.length()));
+    assertTrue(IDENTIFIER.matchesAll("abc_123"));
+    assertFalse(IDENTIFIER.matchesAll("abc-123"));
+  }
+}
@@ -12,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 public class CharRangeTest {
@@ -96,4 +97,77 @@ public class CharRangeTest {
     var range = new CharRange('a', 'e');
     assertEquals(5, range.distinct().size());
   }
+
+  @Test
+  void shouldIterateWithPrimitiveIterator() {
+    var range = new CharRange('a', 'c');
+    var iterator = range.intIterator();
+    assertEquals('a', iterator.nextInt());
+    assertEquals('b', iterator.nextInt());
+    assertEquals('c', iterator.nextInt());
+    assertFalse(iterator.hasNext());
+    assertTrue(range.anyInt(Character::isLowerCase));
+    assertFalse(range.allInt(c -> c < 'c'));
+  }
+
+  @Test
+  void shouldComputeIndexOfCharacters() {
+    var range = new CharRange('a', 'z', (char) 5); // a, f, k, p, u, z
+    assertEquals(2, range.indexOf('k'));
+    assertEquals(-1, range.indexOf('b'));
+    assertEquals('u', range.charAt(4));
+    assertEquals('z', range.elementAt(5));
+  }
+
+  @Test
+  void shouldCutRangeIntoChunks() {
+    var chunks = new CharRange('a', 'g').chunked(3);
+    assertEquals(
+        List.of(List.of('a', 'b', 'c'), List.of('d', 'e', 'f'), List.of('g')),
+        chunks.stream().map(chunk -> chunk.stream().toList()).toList());
+    assertEquals(
+        List.of('z', 'y'), new CharRange('z', 'a').split(2).get(0).stream().toList().subList(0, 2));
+  }
+
+  @Test
+  void shouldMaterializeIntoArray() {
+    assertArrayEquals(new char[] {'a', 'c', 'e'}, new CharRange('a', 'e', (char) 2).toCharArray());
+  }
+
+  @Test
+  void reversedStepAndUntilShouldCreateViews() {
+    var range = new CharRange('a', 'h');
+    assertEquals("hgfedcba", new String(range.reversed().toCharArray()));
+    assertEquals("adg", new String(range.step(3).toCharArray()));
+    assertEquals("abc", new String(range.until('d').toCharArray()));
+    assertEquals("gda", new String(range.step(3).reversed().toCharArray()));
+    assertTrue(range.reversed().contains('c'));
+  }
+
+  @Test
+  void stepLongerThanCharShouldKeepFirstElement() {
+    var range = new CharRange('a', 'z');
+    var stepped = range.step(65536);
+    assertEquals("a", new String(stepped.toCharArray()));
+    assertTrue(stepped.contains('a'));
+    assertFalse(stepped.contains('b'));
+
+    stepped = range.step(70000);
+    assertEquals(1, stepped.count());
+    assertEquals(0, stepped.indexOf('a'));
+    assertEquals(-1, stepped.indexOf('q'));
+
+    var full = new CharRange('\0', '\uffff').reversed().step(Integer.MAX_VALUE);
+    assertEquals("\uffff", new String(full.toCharArray()));
+    assertFalse(full.contains('\0'));
+  }
+
+  @Test
+  void derivedRangesShouldUseConstructorEndConvention() {
+    var reversed = new CharRange('a', 'h').step(3).reversed();
+    assertEquals('g', reversed.start());
+    assertEquals('^', reversed.end());
+    assertEquals("gda", new String(new CharRange('g', '^', (char) 3).toCharArray()));
+    assertEquals('\0', new CharRange('\0', 'c').reversed().end());
+  }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import org.junit.jupiter.api.Test;
+
+public class ClosedRangeTest {
+
+  @Test
+  void shouldCheckContainmentByComparison() {
+    var range = ClosedRange.of(new BigDecimal("0.5"), new BigDecimal("1.50"));
+    assertTrue(range.contains(new BigDecimal("1.5")));
+    assertTrue(range.contains(new BigDecimal("0.50")));
+    assertFalse(range.contains(new BigDecimal("1.51")));
+    assertFalse(range.isEmpty());
+    assertTrue(ClosedRange.of("b", "a").isEmpty());
+    assertEquals("a..c", ClosedRange.of("a", "c").toString());
+  }
+
+  @Test
+  void shouldCoerceValues() {
+    var range = ClosedRange.of(10, 20);
+    assertEquals(10, range.coerceIn(3));
+    assertEquals(15, range.coerceIn(15));
+    assertEquals(20, range.coerceIn(30));
+    assertThrows(IllegalArgumentException.class, () -> ClosedRange.of(2, 1).coerceIn(1));
+  }
+
+  @Test
+  void shouldUseComparator() {
+    var range = ClosedRange.of("APPLE", "banana", String.CASE_INSENSITIVE_ORDER);
+    assertTrue(range.contains("Avocado"));
+    assertFalse(range.contains("cherry"));
+    var reversed = ClosedRange.of(20, 10, Comparator.reverseOrder());
+    assertFalse(reversed.isEmpty());
+    assertTrue(reversed.contains(15));
+  }
+
+  @Test
+  void shouldDetectOverlaps() {
+    assertTrue(ClosedRange.of(1, 5).overlaps(ClosedRange.of(5, 9)));
+    assertFalse(ClosedRange.of(1, 5).overlaps(ClosedRange.of(6, 9)));
+    assertTrue(OpenEndRange.of(1, 6).overlaps(OpenEndRange.of(5, 9)));
+    assertFalse(OpenEndRange.of(1, 5).overlaps(OpenEndRange.of(5, 9)));
+    assertFalse(OpenEndRange.of(1, 1).overlaps(OpenEndRange.of(0, 9)));
+  }
+
+  @Test
+  void openEndRangeShouldExcludeEnd() {
+    var range = OpenEndRange.of("a", "m");
+    assertTrue(range.contains("a"));
+    assertTrue(range.contains("lzz"));
+    assertFalse(range.contains("m"));
+    assertTrue(OpenEndRange.of("a", "a").isEmpty());
+    assertEquals("a..<m", range.toString());
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class DoubleRangeTest {
+
+  @Test
+  void shouldInitializeRangeCorrectly() {
+    DoubleRange range = new DoubleRange(0.0, 1.0, 0.25);
+    assertEquals(0.0, range.first());
+    assertEquals(1.0, range.last());
+    assertEquals(5, range.count());
+    assertEquals(List.of(0.0, 0.25, 0.5, 0.75, 1.0), range.stream().toList());
+  }
+
+  @Test
+  void shouldExcludeEndOfDecreasingRange() {
+    DoubleRange range = new DoubleRange(1.0, 0.0, 0.25);
+    assertEquals(List.of(1.0, 0.75, 0.5, 0.25), range.stream().toList());
+  }
+
+  @Test
+  void shouldComputeElementsWithoutAccumulatingError() {
+    DoubleRange range = new DoubleRange(0.0, 1000.0, 0.1);
+    assertEquals(10001, range.count());
+    assertEquals(0.1 * 7777, range.doubleAt(7777));
+    assertEquals(1000.0, range.last());
+    double[] values = range.toDoubleArray();
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(i * 0.1, values[i]);
+    }
+  }
+
+  @Test
+  void shouldFindElementsByIndex() {
+    DoubleRange range = new DoubleRange(-5.0, 5.0, 0.5);
+    assertTrue(range.contains(2.5));
+    assertFalse(range.contains(2.6));
+    assertFalse(range.contains(5.5));
+    assertEquals(15, range.indexOf(2.5));
+    assertEquals(2.5, range.elementAt(15));
+    assertEquals(-1, DoubleRange.EMPTY.indexOf(1.0));
+    assertFalse(range.contains(Double.NaN));
+  }
+
+  @Test
+  void shouldSumInParallel() {
+    DoubleRange range = new DoubleRange(0.0, 1.0, 1e-6);
+    assertEquals(1_000_001, range.longCount());
+    assertEquals(range.doubleStream().sum(), range.parallelDoubleStream().sum(), 1e-6);
+  }
+
+  @Test
+  void shouldKeepElementsOfChunks() {
+    DoubleRange range = new DoubleRange(0.0, 1.0, 0.1);
+    assertEquals(
+        range.stream().toList(), range.chunked(3).stream().flatMap(DoubleRange::stream).toList());
+  }
+
+  @Test
+  void shouldRejectInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new DoubleRange(0.0, 1.0, 0.0));
+    assertThrows(IllegalArgumentException.class, () -> new DoubleRange(0.0, 1.0, Double.NaN));
+    assertThrows(
+        IllegalArgumentException.class, () -> new DoubleRange(0.0, Double.POSITIVE_INFINITY, 1.0));
+    assertThrows(IllegalArgumentException.class, () -> new DoubleRange(1e20, 1e20 + 1e6, 1.0));
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class FloatRangeTest {
+
+  @Test
+  void shouldInitializeRangeCorrectly() {
+    FloatRange range = new FloatRange(1f, 2f, 0.5f);
+    assertEquals(List.of(1f, 1.5f, 2f), range.stream().toList());
+    assertEquals(List.of(2f, 1.5f), new FloatRange(2f, 1f, 0.5f).stream().toList());
+  }
+
+  @Test
+  void shouldComputeElementsByIndex() {
+    FloatRange range = new FloatRange(0f, 100f, 0.1f);
+    assertEquals((float) (0.1f * 500.0), range.floatAt(500));
+    assertEquals(500, range.indexOf(range.floatAt(500)));
+    assertTrue(range.contains(range.floatAt(999)));
+    assertArrayEquals(range.doubleStream().toArray(), toDoubles(range.toFloatArray()));
+  }
+
+  private static double[] toDoubles(float[] values) {
+    double[] result = new double[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = values[i];
+    }
+    return result;
+  }
+}
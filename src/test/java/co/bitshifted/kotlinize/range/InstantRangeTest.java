@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class InstantRangeTest {
+
+  private static final Instant MIDNIGHT = Instant.parse("2025-03-01T00:00:00Z");
+
+  @Test
+  void shouldComputeElementsFromIndex() {
+    var range = new InstantRange(MIDNIGHT, MIDNIGHT.plusSeconds(3600), Duration.ofMinutes(15));
+    assertEquals(5, range.count());
+    assertEquals(MIDNIGHT, range.first());
+    assertEquals(MIDNIGHT.plusSeconds(3600), range.last());
+    assertEquals(MIDNIGHT.plusSeconds(1800), range.elementAt(2));
+    List<Instant> elements = new ArrayList<>();
+    range.forEach(elements::add);
+    assertEquals(range.stream().toList(), elements);
+    assertEquals(
+        4, new InstantRange(MIDNIGHT, MIDNIGHT.plusSeconds(3599), Duration.ofMinutes(15)).count());
+    assertTrue(
+        new InstantRange(MIDNIGHT, MIDNIGHT.minusNanos(1), Duration.ofMinutes(15)).isEmpty());
+    assertThrows(
+        IllegalArgumentException.class, () -> new InstantRange(MIDNIGHT, MIDNIGHT, Duration.ZERO));
+  }
+
+  @Test
+  void shouldLookUpIndexAndBucket() {
+    var range = InstantRange.ofCount(MIDNIGHT, Duration.ofMillis(250), 1_000_000_000L);
+    assertEquals(1_000_000_000L, range.longCount());
+    var instant = MIDNIGHT.plusSeconds(86_400).plusMillis(300);
+    assertEquals(345_601, range.bucketOf(instant));
+    assertEquals(-1, range.indexOf(instant));
+    assertEquals(345_600, range.indexOf(MIDNIGHT.plusSeconds(86_400)));
+    assertTrue(range.contains(range.last()));
+    assertEquals(-1, range.bucketOf(MIDNIGHT.minusNanos(1)));
+    assertEquals(-1, range.bucketOf(range.last().plus(Duration.ofMillis(250))));
+    assertEquals(range.longCount() - 1, range.bucketOf(range.last().plusMillis(249)));
+  }
+
+  @Test
+  void shouldHandleStepsLongerThanNanosecondRange() {
+    var step = Duration.ofDays(365L * 1000);
+    var range = new InstantRange(Instant.MIN, Instant.MAX, step);
+    assertEquals(range.elementAt(3), Instant.MIN.plus(step.multipliedBy(3)));
+    assertEquals(3, range.indexOf(Instant.MIN.plus(step.multipliedBy(3))));
+    assertEquals(3, range.bucketOf(Instant.MIN.plus(step.multipliedBy(3)).plusNanos(1)));
+  }
+
+  @Test
+  void shouldChunkAndSplit() {
+    var range = InstantRange.ofCount(MIDNIGHT, Duration.ofSeconds(1), 10);
+    var chunks = range.chunked(4);
+    assertEquals(3, chunks.size());
+    assertEquals(MIDNIGHT.plusSeconds(4), chunks.get(1).first());
+    assertEquals(2, chunks.get(2).count());
+    var parts = range.split(3);
+    assertEquals(4, parts.get(0).count());
+    assertEquals(MIDNIGHT.plusSeconds(9), parts.get(2).last());
+    assertEquals(range.stream().toList(), range.parallelStream().toList());
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+
+public class IntRangeSetTest {
+
+  @Test
+  void shouldMergeRangesAndAnswerQueries() {
+    var set = IntRangeSet.of(new IntRange(10, 1), new IntRange(20, 30), new IntRange(11, 15));
+    assertEquals(2, set.rangeCount());
+    assertEquals(25, set.cardinality());
+    assertFalse(set.contains(1)); // decreasing ranges exclude their end
+    assertTrue(set.contains(2));
+    assertFalse(set.contains(10 + 6));
+    assertEquals(OptionalInt.of(20), set.nextIncluded(16));
+    assertEquals(OptionalInt.empty(), set.nextIncluded(31));
+  }
+
+  @Test
+  void shouldCombineSets() {
+    var set = IntRangeSet.of(new IntRange(0, 100));
+    var holes = IntRangeSet.of(new IntRange(10, 19), new IntRange(50, 59));
+    set.removeAll(holes);
+    assertEquals(3, set.rangeCount());
+    assertEquals(81, set.cardinality());
+    set.addAll(holes);
+    assertEquals(1, set.rangeCount());
+    var ranges = set.asRanges();
+    assertEquals(0, ranges.get(0).first());
+    assertEquals(100, ranges.get(0).last());
+  }
+
+  @Test
+  void shouldCountWholeIntDomain() {
+    var set = new IntRangeSet();
+    set.add(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    assertEquals(1L << 32, set.cardinality());
+  }
+}
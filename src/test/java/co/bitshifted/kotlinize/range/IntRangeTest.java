@@ -9,6 +9,16 @@ package co.bitshifted.kotlinize.range;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 public class IntRangeTest {
@@ -93,4 +103,412 @@ public class IntRangeTest {
     IntRange range = new IntRange(1, 5);
     assertEquals(5, range.distinct().size());
   }
+
+  @Test
+  void shouldCreateLargeRangeWithoutMaterializingElements() {
+    IntRange range = new IntRange(0, Integer.MAX_VALUE - 1);
+    assertEquals(Integer.MAX_VALUE, range.count());
+    assertEquals(0, range.first());
+    assertEquals(Integer.MAX_VALUE - 1, range.last());
+  }
+
+  @Test
+  void shouldIterateDecreasingRangeWithStep() {
+    IntRange range = new IntRange(10, 1, 3);
+    var iterator = range.iterator();
+    assertEquals(10, iterator.next());
+    assertEquals(7, iterator.next());
+    assertEquals(4, iterator.next());
+    assertFalse(iterator.hasNext());
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  @Test
+  void shouldRejectNonPositiveStep() {
+    assertThrows(IllegalArgumentException.class, () -> new IntRange(1, 5, 0));
+    assertThrows(IllegalArgumentException.class, () -> new IntRange(1, 5, -1));
+  }
+
+  @Test
+  void shouldIterateWithPrimitiveIterator() {
+    IntRange range = new IntRange(10, 1, 3);
+    var iterator = range.intIterator();
+    assertEquals(10, iterator.nextInt());
+    assertEquals(7, iterator.nextInt());
+    assertEquals(4, iterator.nextInt());
+    assertFalse(iterator.hasNext());
+    assertThrows(NoSuchElementException.class, iterator::nextInt);
+  }
+
+  @Test
+  void shouldApplyPrimitiveConsumersAndPredicates() {
+    IntRange range = new IntRange(1, 5);
+    int[] sum = {0};
+    range.forEachInt(x -> sum[0] += x);
+    assertEquals(15, sum[0]);
+    assertTrue(range.anyInt(x -> x == 3));
+    assertFalse(range.anyInt(x -> x > 5));
+    assertTrue(range.allInt(x -> x >= 1 && x <= 5));
+    assertFalse(range.allInt(x -> x < 5));
+  }
+
+  @Test
+  void shouldStreamElements() {
+    IntRange range = new IntRange(1, 10, 3);
+    assertEquals(List.of(1, 4, 7, 10), range.stream().toList());
+    assertArrayEquals(new int[] {1, 4, 7, 10}, range.intStream().toArray());
+    assertEquals(22, range.parallelIntStream().sum());
+  }
+
+  @Test
+  void shouldSplitSpliteratorInHalf() {
+    IntRange range = new IntRange(0, 99);
+    var suffix = range.intSpliterator();
+    assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    var prefix = suffix.trySplit();
+    assertEquals(50, prefix.estimateSize());
+    assertEquals(50, suffix.estimateSize());
+    assertTrue(suffix.tryAdvance((int x) -> assertEquals(50, x)));
+  }
+
+  @Test
+  void shouldSumLargeRangeInParallel() {
+    IntRange range = new IntRange(0, 9_999_999);
+    assertEquals(49_999_995_000_000L, range.parallelIntStream().asLongStream().sum());
+  }
+
+  @Test
+  void shouldCountRangeSpanningWholeDomain() {
+    IntRange range = new IntRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    assertEquals(1L << 32, range.longCount());
+    assertEquals(Integer.MAX_VALUE, range.last());
+    assertThrows(ArithmeticException.class, range::count);
+  }
+
+  @Test
+  void shouldComputeIndexOfRespectingStepAlignment() {
+    IntRange range = new IntRange(2, 20, 3); // 2, 5, 8, 11, 14, 17, 20
+    assertEquals(0, range.indexOf(2));
+    assertEquals(3, range.indexOf(11));
+    assertEquals(6, range.indexOf(20));
+    assertEquals(-1, range.indexOf(10));
+    assertEquals(-1, range.indexOf(23));
+    assertEquals(-1, range.indexOf(-1));
+    assertEquals(-1, range.indexOf((Integer) null));
+    assertFalse(range.contains(Integer.valueOf(3)));
+    assertTrue(range.contains(Integer.valueOf(17)));
+  }
+
+  @Test
+  void shouldComputeIndexOfInDecreasingRange() {
+    IntRange range = new IntRange(10, 2, 2); // 10, 8, 6, 4
+    assertEquals(0, range.indexOf(10));
+    assertEquals(3, range.indexOf(4));
+    assertEquals(-1, range.indexOf(2));
+    assertEquals(-1, range.indexOf(12));
+    assertFalse(range.contains(5));
+  }
+
+  @Test
+  void shouldReturnElementAtIndex() {
+    IntRange range = new IntRange(10, 2, 2);
+    assertEquals(10, range.elementAt(0));
+    assertEquals(4, range.intAt(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> range.elementAt(4));
+    assertThrows(IndexOutOfBoundsException.class, () -> range.intAt(-1));
+  }
+
+  @Test
+  void shouldCheckMembershipAcrossWholeDomain() {
+    IntRange range = new IntRange(Integer.MIN_VALUE, Integer.MAX_VALUE, 2);
+    assertTrue(range.contains(Integer.MAX_VALUE - 1));
+    assertFalse(range.contains(Integer.MAX_VALUE));
+    assertEquals((1L << 31) - 1, range.indexOf(Integer.MAX_VALUE - 1));
+  }
+
+  @Test
+  void shouldComputeAggregatesInClosedForm() {
+    IntRange range = new IntRange(10, 1, 3); // 10, 7, 4
+    assertEquals(21L, range.sum());
+    assertEquals(4, range.min());
+    assertEquals(10, range.max());
+    assertEquals(7.0, range.average());
+
+    range = new IntRange(1, 10, 2); // 1, 3, 5, 7, 9
+    assertEquals(25L, range.sum());
+    assertEquals(1, range.min());
+    assertEquals(9, range.max());
+    assertEquals(5.0, range.average());
+  }
+
+  @Test
+  void shouldSumWithoutOverflow() {
+    IntRange range = new IntRange(0, Integer.MAX_VALUE);
+    long n = Integer.MAX_VALUE;
+    assertEquals(n * (n + 1) / 2, range.sum());
+    assertEquals(Integer.MIN_VALUE, new IntRange(Integer.MIN_VALUE, Integer.MAX_VALUE).sum());
+  }
+
+  @Test
+  void shouldIntersectRangesWithSameStep() {
+    IntRange range = new IntRange(1, 100).intersect(new IntRange(50, 200));
+    assertEquals(50, range.first());
+    assertEquals(100, range.last());
+    assertEquals(51, range.count());
+
+    assertTrue(new IntRange(0, 10, 2).intersect(new IntRange(1, 11, 2)).isEmpty());
+    assertFalse(new IntRange(0, 10, 2).overlaps(new IntRange(1, 11, 2)));
+    assertTrue(new IntRange(0, 10).overlaps(new IntRange(10, 20)));
+  }
+
+  @Test
+  void shouldIntersectRangesWithDifferentSteps() {
+    IntRange range = new IntRange(1, 100, 2).intersect(new IntRange(1, 100, 3));
+    assertEquals(
+        List.of(1, 7, 13, 19, 25, 31, 37, 43, 49, 55, 61, 67, 73, 79, 85, 91, 97),
+        range.stream().toList());
+
+    range = new IntRange(0, 100, 4).intersect(new IntRange(2, 100, 6));
+    assertEquals(List.of(8, 20, 32, 44, 56, 68, 80, 92), range.stream().toList());
+
+    assertTrue(new IntRange(0, 100, 4).intersect(new IntRange(1, 100, 6)).isEmpty());
+  }
+
+  @Test
+  void shouldKeepDirectionOfReceiverWhenIntersecting() {
+    IntRange range = new IntRange(20, 0, 2).intersect(new IntRange(5, 15));
+    assertEquals(List.of(14, 12, 10, 8, 6), range.stream().toList());
+  }
+
+  @Test
+  void shouldSubtractRanges() {
+    IntRange range = new IntRange(1, 10);
+    var parts = range.subtract(new IntRange(4, 6));
+    assertEquals(2, parts.size());
+    assertEquals(List.of(1, 2, 3), parts.get(0).stream().toList());
+    assertEquals(List.of(7, 8, 9, 10), parts.get(1).stream().toList());
+
+    assertTrue(range.subtract(new IntRange(0, 20)).isEmpty());
+    parts = range.subtract(new IntRange(20, 30));
+    assertEquals(1, parts.size());
+    assertEquals(range.stream().toList(), parts.get(0).stream().toList());
+
+    parts = range.subtract(new IntRange(0, 20, 3));
+    assertEquals(
+        List.of(1, 2, 4, 5, 7, 8, 10), parts.stream().flatMap(IntRange::stream).sorted().toList());
+  }
+
+  @Test
+  void shouldMergeContiguousRanges() {
+    var union = new IntRange(1, 5).unionIfContiguous(new IntRange(6, 10));
+    assertTrue(union.isPresent());
+    assertEquals(1, union.get().first());
+    assertEquals(10, union.get().last());
+
+    union = new IntRange(0, 10, 2).unionIfContiguous(new IntRange(12, 20, 2));
+    assertEquals(List.of(0, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20), union.get().stream().toList());
+
+    assertTrue(new IntRange(1, 5).unionIfContiguous(new IntRange(7, 10)).isEmpty());
+    assertTrue(new IntRange(0, 10, 2).unionIfContiguous(new IntRange(1, 11, 2)).isEmpty());
+    assertEquals(
+        new IntRange(1, 10).count(),
+        new IntRange(1, 10).unionIfContiguous(new IntRange(3, 7, 2)).get().count());
+    assertEquals(4, IntRange.EMPTY.unionIfContiguous(new IntRange(1, 4)).get().count());
+  }
+
+  @Test
+  void shouldCutRangeIntoChunks() {
+    var chunks = new IntRange(1, 10).chunked(4);
+    assertEquals(3, chunks.size());
+    assertEquals(List.of(1, 2, 3, 4), chunks.get(0).stream().toList());
+    assertEquals(List.of(5, 6, 7, 8), chunks.get(1).stream().toList());
+    assertEquals(List.of(9, 10), chunks.get(2).stream().toList());
+
+    chunks = new IntRange(20, 0, 3).chunked(3);
+    assertEquals(
+        List.of(List.of(20, 17, 14), List.of(11, 8, 5), List.of(2)),
+        chunks.stream().map(chunk -> chunk.stream().toList()).toList());
+
+    assertTrue(IntRange.EMPTY.chunked(5).isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> new IntRange(1, 10).chunked(0));
+    assertThrows(IndexOutOfBoundsException.class, () -> new IntRange(1, 10).chunked(4).get(3));
+  }
+
+  @Test
+  void shouldChunkWholeDomainLazily() {
+    var chunks = new IntRange(Integer.MIN_VALUE, Integer.MAX_VALUE).chunked(1 << 20);
+    assertEquals(4096, chunks.size());
+    assertEquals(Integer.MAX_VALUE, chunks.get(4095).last());
+    assertEquals(1 << 20, chunks.get(2048).count());
+  }
+
+  @Test
+  void shouldSplitRangeIntoBalancedParts() {
+    var parts = new IntRange(1, 10).split(3);
+    assertEquals(3, parts.size());
+    assertEquals(List.of(1, 2, 3, 4), parts.get(0).stream().toList());
+    assertEquals(List.of(5, 6, 7), parts.get(1).stream().toList());
+    assertEquals(List.of(8, 9, 10), parts.get(2).stream().toList());
+
+    parts = new IntRange(1, 2).split(4);
+    assertEquals(4, parts.size());
+    assertEquals(List.of(1), parts.get(0).stream().toList());
+    assertTrue(parts.get(3).isEmpty());
+
+    assertEquals(
+        new IntRange(0, 1000, 7).stream().toList(),
+        new IntRange(0, 1000, 7).split(9).stream().flatMap(IntRange::stream).toList());
+    assertThrows(IllegalArgumentException.class, () -> new IntRange(1, 10).split(0));
+  }
+
+  @Test
+  void shouldMaterializeIntoArrays() {
+    assertArrayEquals(new int[] {1, 4, 7, 10}, new IntRange(1, 10, 3).toIntArray());
+    assertArrayEquals(new int[] {10, 8, 6, 4}, new IntRange(10, 2, 2).toIntArray());
+    assertArrayEquals(new int[0], IntRange.EMPTY.toIntArray());
+
+    int[] dst = new int[8];
+    new IntRange(1, 5).fillInto(dst, 2);
+    assertArrayEquals(new int[] {0, 0, 1, 2, 3, 4, 5, 0}, dst);
+    assertThrows(IndexOutOfBoundsException.class, () -> new IntRange(1, 5).fillInto(dst, 4));
+
+    var range = new IntRange(-1000, 1000, 7);
+    assertArrayEquals(range.intStream().toArray(), range.toIntArray());
+  }
+
+  @Test
+  void shouldFillHeapAndDirectBuffers() {
+    var heap = IntBuffer.allocate(10);
+    heap.put(42);
+    new IntRange(1, 5).fillInto(heap);
+    assertEquals(6, heap.position());
+    assertArrayEquals(new int[] {42, 1, 2, 3, 4, 5}, Arrays.copyOf(heap.array(), 6));
+
+    var direct = ByteBuffer.allocateDirect(4 * 4).order(ByteOrder.nativeOrder()).asIntBuffer();
+    new IntRange(8, 0, 2).fillInto(direct);
+    assertEquals(4, direct.position());
+    assertEquals(
+        List.of(8, 6, 4, 2), List.of(direct.get(0), direct.get(1), direct.get(2), direct.get(3)));
+
+    assertThrows(
+        BufferOverflowException.class, () -> new IntRange(1, 5).fillInto(IntBuffer.allocate(4)));
+  }
+
+  @Test
+  void shouldVisitEveryElementOnceInShuffledOrder() {
+    assertEquals(0, IntRange.EMPTY.shuffledIntStream(42).count());
+    for (int n : new int[] {1, 2, 3, 5, 64, 1000, 4099}) {
+      var range = new IntRange(1, n);
+      int[] shuffled = range.shuffledIntStream(42).toArray();
+      assertEquals(n, shuffled.length);
+      assertArrayEquals(range.toIntArray(), IntStream.of(shuffled).sorted().toArray());
+    }
+  }
+
+  @Test
+  void shouldShuffleReproduciblyForSeed() {
+    var range = new IntRange(0, 10_000, 5);
+    int[] first = range.shuffledIntStream(7).toArray();
+    assertArrayEquals(first, range.shuffledIntStream(7).toArray());
+    assertArrayEquals(first, range.shuffledIntStream(7).parallel().toArray());
+    assertFalse(Arrays.equals(first, range.shuffledIntStream(8).toArray()));
+    assertFalse(Arrays.equals(range.toIntArray(), first));
+
+    List<Integer> boxed = new ArrayList<>();
+    range.shuffledIterator(7).forEachRemaining(boxed::add);
+    assertEquals(IntStream.of(first).boxed().toList(), boxed);
+  }
+
+  @Test
+  void shouldComputeShards() {
+    var range = new IntRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    assertEquals(Integer.MAX_VALUE, range.shard(3, 4).last());
+    assertEquals(List.of(0, 5, 10), new IntRange(0, 14).stridedShard(0, 5).stream().toList());
+    assertThrows(
+        ArithmeticException.class,
+        () -> new IntRange(Integer.MIN_VALUE, Integer.MAX_VALUE, 2).stridedShard(0, 1 << 30));
+  }
+
+  @Test
+  void fromClosedRangeShouldIncludeBoundInBothDirections() {
+    assertEquals(List.of(10, 7, 4, 1), IntRange.fromClosedRange(10, 1, -3).stream().toList());
+    assertEquals(List.of(1, 4, 7), IntRange.fromClosedRange(1, 9, 3).stream().toList());
+    assertTrue(IntRange.fromClosedRange(1, 9, -1).isEmpty());
+    assertEquals(
+        Integer.MIN_VALUE,
+        IntRange.fromClosedRange(Integer.MAX_VALUE, Integer.MIN_VALUE, -1).last());
+    assertThrows(IllegalArgumentException.class, () -> IntRange.fromClosedRange(1, 2, 0));
+    assertThrows(
+        IllegalArgumentException.class, () -> IntRange.fromClosedRange(1, 2, Integer.MIN_VALUE));
+  }
+
+  @Test
+  void reversedShouldIterateBackwards() {
+    var range = new IntRange(1, 10, 3);
+    var reversed = range.reversed();
+    assertEquals(List.of(10, 7, 4, 1), reversed.stream().toList());
+    assertTrue(reversed.contains(4));
+    assertFalse(reversed.contains(5));
+    assertEquals(List.of(1, 4, 7, 10), reversed.reversed().stream().toList());
+    assertEquals(List.of(2, 3, 4, 5), new IntRange(5, 1).reversed().stream().toList());
+    assertTrue(IntRange.EMPTY.reversed().isEmpty());
+
+    var full = new IntRange(Integer.MIN_VALUE, Integer.MAX_VALUE).reversed();
+    assertEquals(1L << 32, full.longCount());
+    assertEquals(Integer.MAX_VALUE, full.intIterator().nextInt());
+    assertEquals(Integer.MIN_VALUE, full.last());
+  }
+
+  @Test
+  void derivedRangesShouldUseConstructorEndConvention() {
+    var range = new IntRange(1, 10);
+    var reversed = range.reversed();
+    assertEquals(10, reversed.start());
+    assertEquals(0, reversed.end());
+    assertEquals(range.end(), reversed.reversed().end());
+    assertEquals(
+        reversed.stream().toList(),
+        new IntRange(reversed.start(), reversed.end()).stream().toList());
+
+    var stepped = new IntRange(10, 0).step(3);
+    assertEquals(List.of(10, 7, 4, 1), stepped.stream().toList());
+    assertEquals(-2, stepped.end());
+    assertEquals(stepped.stream().toList(), new IntRange(10, stepped.end(), 3).stream().toList());
+
+    var decreasing = new IntRange(10, 1);
+    assertEquals(decreasing.end(), decreasing.reversed().reversed().end());
+    assertEquals(4, decreasing.until(4).end());
+    assertEquals(0, IntRange.fromClosedRange(10, 1, -1).end());
+    assertEquals(2, new IntRange(20, 0, 2).intersect(new IntRange(4, 12)).end());
+    assertEquals(Integer.MIN_VALUE, new IntRange(Integer.MIN_VALUE, 0).reversed().end());
+  }
+
+  @Test
+  void stepShouldKeepFirstElementAndDirection() {
+    assertEquals(List.of(1, 4, 7, 10), new IntRange(1, 10).step(3).stream().toList());
+    assertEquals(List.of(10, 8, 6, 4, 2), new IntRange(10, 0).step(2).stream().toList());
+    assertEquals(List.of(1, 7), new IntRange(1, 10, 3).step(6).stream().toList());
+    assertEquals(1, new IntRange(1, 10).step(Integer.MAX_VALUE).count());
+    assertThrows(IllegalArgumentException.class, () -> new IntRange(1, 10).step(0));
+  }
+
+  @Test
+  void untilShouldKeepElementsBeforeBound() {
+    assertEquals(List.of(1, 4), new IntRange(1, 10, 3).until(7).stream().toList());
+    assertEquals(List.of(1, 4, 7), new IntRange(1, 10, 3).until(8).stream().toList());
+    assertEquals(4, new IntRange(1, 10, 3).until(100).count());
+    assertTrue(new IntRange(1, 10).until(1).isEmpty());
+    assertEquals(List.of(10, 9), new IntRange(10, 1).until(8).stream().toList());
+    assertTrue(new IntRange(10, 1).until(Integer.MAX_VALUE).isEmpty());
+    assertEquals(
+        Integer.MAX_VALUE - 1, new IntRange(0, Integer.MAX_VALUE).until(Integer.MAX_VALUE).last());
+  }
+
+  @Test
+  void noneShouldBeNegationOfAny() {
+    var range = new IntRange(1, 10);
+    assertTrue(range.none(i -> i > 10));
+    assertFalse(range.none(i -> i == 5));
+    assertTrue(IntRange.EMPTY.none(i -> true));
+  }
 }
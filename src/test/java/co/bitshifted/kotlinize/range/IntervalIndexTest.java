@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class IntervalIndexTest {
+
+  @Test
+  void shouldFindIntervalsContainingPoint() {
+    var index =
+        IntervalIndex.<String>builder()
+            .add(new LongRange(100, 200), "a")
+            .add(new LongRange(150, 300), "b")
+            .add(new IntRange(0, 120), "c")
+            .add(400, 500, "d")
+            .build();
+    assertEquals(4, index.size());
+    assertEquals(List.of("c", "a"), index.containing(110));
+    assertEquals(List.of("a", "b"), index.containing(150));
+    assertEquals(List.of(), index.containing(350));
+    assertEquals(List.of("d"), index.containing(500));
+  }
+
+  @Test
+  void shouldFindIntervalsOverlappingRange() {
+    var index =
+        IntervalIndex.<Integer>builder()
+            .add(new LongRange(0, 10), 1)
+            .add(new LongRange(20, 30), 2)
+            .add(new LongRange(25, 26), 3)
+            .build();
+    assertEquals(List.of(1, 2), index.overlapping(new LongRange(10, 20)));
+    assertEquals(List.of(2, 3), index.overlapping(26, 100));
+    assertEquals(List.of(), index.overlapping(11, 19));
+    assertEquals(List.of(), index.overlapping(LongRange.EMPTY));
+  }
+
+  @Test
+  void shouldMatchBruteForceForRandomIntervals() {
+    var random = new Random(7);
+    int count = 10_000;
+    long[] starts = new long[count];
+    long[] ends = new long[count];
+    var builder = IntervalIndex.<Integer>builder();
+    for (int i = 0; i < count; i++) {
+      starts[i] = random.nextInt(1_000_000);
+      ends[i] = starts[i] + random.nextInt(random.nextBoolean() ? 100 : 50_000);
+      builder.add(starts[i], ends[i], i);
+    }
+    var index = builder.build();
+    for (int q = 0; q < 200; q++) {
+      long from = random.nextInt(1_100_000);
+      long to = from + random.nextInt(1000);
+      List<Integer> expected = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        if (starts[i] <= to && ends[i] >= from) {
+          expected.add(i);
+        }
+      }
+      var actual = new ArrayList<>(index.overlapping(from, to));
+      actual.sort(null);
+      assertEquals(expected, actual);
+    }
+  }
+}
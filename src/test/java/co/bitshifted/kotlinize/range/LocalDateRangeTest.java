@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class LocalDateRangeTest {
+
+  @Test
+  void shouldComputeMonthlyElementsWithoutDrift() {
+    var range =
+        new LocalDateRange(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 5, 1), Period.ofMonths(1));
+    assertEquals(
+        List.of(
+            LocalDate.of(2024, 1, 31),
+            LocalDate.of(2024, 2, 29),
+            LocalDate.of(2024, 3, 31),
+            LocalDate.of(2024, 4, 30)),
+        range.stream().toList());
+    assertEquals(2, range.indexOf(LocalDate.of(2024, 3, 31)));
+    assertEquals(-1, range.indexOf(LocalDate.of(2024, 3, 29)));
+    assertEquals(1, range.bucketOf(LocalDate.of(2024, 3, 30)));
+    assertEquals(3, range.bucketOf(LocalDate.of(2024, 5, 30)));
+    assertEquals(-1, range.bucketOf(LocalDate.of(2024, 5, 31)));
+    assertEquals(-1, range.bucketOf(LocalDate.of(2024, 1, 30)));
+  }
+
+  @Test
+  void shouldMatchSequentialSearchForMixedPeriods() {
+    var start = LocalDate.of(1999, 12, 31);
+    var range = new LocalDateRange(start, LocalDate.of(2100, 1, 1), Period.of(0, 1, 3));
+    var elements = range.stream().toList();
+    int expected = -1;
+    for (var date = start.minusDays(3); !date.isAfter(range.last()); date = date.plusDays(1)) {
+      while (expected + 1 < elements.size() && !elements.get(expected + 1).isAfter(date)) {
+        expected++;
+      }
+      assertEquals(expected, range.bucketOf(date), date.toString());
+      assertEquals(elements.indexOf(date), range.indexOf(date), date.toString());
+    }
+  }
+
+  @Test
+  void shouldComputeSizeAndLookUpFarDates() {
+    var range = LocalDateRange.ofCount(LocalDate.of(2000, 2, 29), Period.ofYears(1), 1_000_000);
+    assertEquals(LocalDate.of(2001, 2, 28), range.elementAt(1));
+    assertEquals(LocalDate.of(2004, 2, 29), range.elementAt(4));
+    assertEquals(500_000, range.indexOf(LocalDate.of(502_000, 2, 29)));
+    assertEquals(
+        3,
+        new LocalDateRange(LocalDate.of(2000, 1, 1), LocalDate.of(2000, 1, 21), Period.ofWeeks(1))
+            .count());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> LocalDateRange.ofCount(LocalDate.EPOCH, Period.of(1, -1, 0), 1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> LocalDateRange.ofCount(LocalDate.EPOCH, Period.ZERO, 1));
+  }
+
+  @Test
+  void shouldChunkWithoutChangingElements() {
+    var range = LocalDateRange.ofCount(LocalDate.of(2024, 1, 31), Period.ofMonths(1), 12);
+    var chunks = range.chunked(5);
+    assertEquals(3, chunks.size());
+    assertEquals(LocalDate.of(2024, 7, 31), chunks.get(1).elementAt(1));
+    assertEquals(range.stream().toList(), chunks.stream().flatMap(LocalDateRange::stream).toList());
+    assertEquals(3, chunks.get(1).bucketOf(LocalDate.of(2024, 10, 15)));
+    assertEquals(-1, chunks.get(1).bucketOf(LocalDate.of(2024, 12, 1)));
+    assertEquals(range.stream().toList(), range.parallelStream().toList());
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+import java.util.OptionalLong;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class LongRangeSetTest {
+
+  @Test
+  void shouldMergeOverlappingAndAdjacentRanges() {
+    var set = LongRangeSet.of(new LongRange(1, 5), new LongRange(10, 20), new LongRange(6, 8));
+    assertEquals(2, set.rangeCount());
+    assertEquals(19, set.cardinality());
+
+    set.add(new LongRange(9, 9));
+    assertEquals(1, set.rangeCount());
+    assertEquals(20, set.cardinality());
+    assertEquals(1L, set.asRanges().get(0).first());
+    assertEquals(20L, set.asRanges().get(0).last());
+  }
+
+  @Test
+  void shouldCheckMembership() {
+    var set = LongRangeSet.of(new LongRange(100, 200), new LongRange(300, 400));
+    assertTrue(set.contains(100));
+    assertTrue(set.contains(250 + 100));
+    assertFalse(set.contains(99));
+    assertFalse(set.contains(250));
+    assertFalse(set.contains(401));
+  }
+
+  @Test
+  void shouldFindNextIncludedValue() {
+    var set = LongRangeSet.of(new LongRange(100, 200), new LongRange(300, 400));
+    assertEquals(OptionalLong.of(100), set.nextIncluded(0));
+    assertEquals(OptionalLong.of(150), set.nextIncluded(150));
+    assertEquals(OptionalLong.of(300), set.nextIncluded(201));
+    assertEquals(OptionalLong.empty(), set.nextIncluded(401));
+  }
+
+  @Test
+  void shouldRemoveAndSplitRanges() {
+    var set = LongRangeSet.of(new LongRange(1, 100));
+    set.remove(new LongRange(40, 60));
+    assertEquals(2, set.rangeCount());
+    assertEquals(79, set.cardinality());
+    assertFalse(set.contains(50));
+    set.remove(0, 39);
+    assertEquals(1, set.rangeCount());
+    assertEquals(61L, set.asRanges().get(0).first());
+  }
+
+  @Test
+  void shouldHandleLimitsOfLongDomain() {
+    var set = new LongRangeSet();
+    set.add(Long.MAX_VALUE - 1, Long.MAX_VALUE);
+    set.add(Long.MIN_VALUE, Long.MIN_VALUE + 1);
+    assertEquals(2, set.rangeCount());
+    assertEquals(4, set.cardinality());
+    set.add(Long.MIN_VALUE + 2, Long.MAX_VALUE - 2);
+    assertEquals(1, set.rangeCount());
+    assertThrows(ArithmeticException.class, set::cardinality);
+    set.remove(Long.MIN_VALUE, 0);
+    assertEquals(Long.MAX_VALUE, set.cardinality());
+  }
+
+  @Test
+  void shouldRejectRangesWithGaps() {
+    var set = new LongRangeSet();
+    assertThrows(IllegalArgumentException.class, () -> set.add(new LongRange(1, 10, 2)));
+    assertThrows(IllegalArgumentException.class, () -> set.add(10, 1));
+    set.add(new LongRange(5, 5, 2));
+    assertTrue(set.contains(5));
+  }
+
+  @Test
+  void shouldMatchBitSetForRandomOperations() {
+    var random = new Random(42);
+    var set = new LongRangeSet();
+    var other = new LongRangeSet();
+    var expected = new BitSet();
+    var expectedOther = new BitSet();
+    for (int i = 0; i < 500; i++) {
+      int from = random.nextInt(1000);
+      int to = from + random.nextInt(30);
+      if (random.nextInt(3) == 0) {
+        set.remove(from, to);
+        expected.clear(from, to + 1);
+      } else {
+        set.add(from, to);
+        expected.set(from, to + 1);
+      }
+      from = random.nextInt(1000);
+      to = from + random.nextInt(30);
+      other.add(from, to);
+      expectedOther.set(from, to + 1);
+    }
+    assertSameValues(expected, set);
+
+    var union = set.copy();
+    union.addAll(other);
+    var expectedUnion = (BitSet) expected.clone();
+    expectedUnion.or(expectedOther);
+    assertSameValues(expectedUnion, union);
+
+    var difference = set.copy();
+    difference.removeAll(other);
+    var expectedDifference = (BitSet) expected.clone();
+    expectedDifference.andNot(expectedOther);
+    assertSameValues(expectedDifference, difference);
+  }
+
+  private static void assertSameValues(BitSet expected, LongRangeSet actual) {
+    assertEquals(expected.cardinality(), actual.cardinality());
+    for (int i = 0; i < 1100; i++) {
+      assertEquals(expected.get(i), actual.contains(i), "value " + i);
+      int next = expected.nextSetBit(i);
+      assertEquals(next < 0 ? OptionalLong.empty() : OptionalLong.of(next), actual.nextIncluded(i));
+    }
+    for (int i = 1; i < actual.rangeCount(); i++) {
+      assertTrue(actual.asRanges().get(i - 1).last() + 1 < actual.asRanges().get(i).first());
+    }
+  }
+}
@@ -12,6 +12,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 public class LongRangeTest {
@@ -96,4 +101,247 @@ public class LongRangeTest {
     var range = new LongRange(1, 5);
     assertEquals(5, range.distinct().size());
   }
+
+  @Test
+  void shouldIterateWithPrimitiveIterator() {
+    var range = new LongRange(1L, 10L, 4L);
+    var iterator = range.longIterator();
+    assertEquals(1L, iterator.nextLong());
+    assertEquals(5L, iterator.nextLong());
+    assertEquals(9L, iterator.nextLong());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void shouldApplyPrimitiveConsumersAndPredicates() {
+    var range = new LongRange(5L, 1L);
+    long[] sum = {0};
+    range.forEachLong(x -> sum[0] += x);
+    assertEquals(14L, sum[0]); // 5, 4, 3, 2
+    assertTrue(range.anyLong(x -> x == 2L));
+    assertFalse(range.anyLong(x -> x == 1L));
+    assertTrue(range.allLong(x -> x > 1L));
+  }
+
+  @Test
+  void shouldStreamElements() {
+    var range = new LongRange(10L, 1L, 3L);
+    assertEquals(List.of(10L, 7L, 4L), range.stream().toList());
+    assertArrayEquals(new long[] {10L, 7L, 4L}, range.longStream().toArray());
+    assertEquals(21L, range.parallelLongStream().sum());
+  }
+
+  @Test
+  void shouldSupportMoreThanIntegerMaxValueElements() {
+    var range = new LongRange(0L, 1_000_000_000_000L);
+    assertEquals(1_000_000_000_001L, range.longCount());
+    assertEquals(1_000_000_000_000L, range.last());
+    assertThrows(ArithmeticException.class, range::count);
+  }
+
+  @Test
+  void shouldIterateUpToMaxValueWithoutOverflow() {
+    var range = new LongRange(Long.MAX_VALUE - 4, Long.MAX_VALUE, 2L);
+    assertEquals(
+        List.of(Long.MAX_VALUE - 4, Long.MAX_VALUE - 2, Long.MAX_VALUE), range.stream().toList());
+    long[] count = {0};
+    range.forEachLong(x -> count[0]++);
+    assertEquals(3L, count[0]);
+  }
+
+  @Test
+  void shouldIterateDownToMinValueWithoutOverflow() {
+    var range = new LongRange(Long.MIN_VALUE + 2, Long.MIN_VALUE);
+    var iterator = range.longIterator();
+    assertEquals(Long.MIN_VALUE + 2, iterator.nextLong());
+    assertEquals(Long.MIN_VALUE + 1, iterator.nextLong());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void shouldHandleRangeSpanningWholeDomain() {
+    var range = new LongRange(Long.MIN_VALUE, Long.MAX_VALUE, 4L);
+    assertEquals(1L << 62, range.longCount());
+    assertEquals(Long.MAX_VALUE - 3, range.last());
+    assertThrows(
+        IllegalArgumentException.class, () -> new LongRange(Long.MIN_VALUE, Long.MAX_VALUE));
+  }
+
+  @Test
+  void shouldCheckMembershipInConstantTime() {
+    var range = new LongRange(Long.MIN_VALUE, Long.MAX_VALUE, 3L);
+    assertTrue(range.contains(Long.MIN_VALUE + 3));
+    assertFalse(range.contains(Long.MIN_VALUE + 4));
+    assertEquals(range.longCount() - 1, range.indexOf(range.last().longValue()));
+    assertEquals(range.last(), range.longAt(range.longCount() - 1));
+  }
+
+  @Test
+  void shouldComputeAggregatesInClosedForm() {
+    var range = new LongRange(1L, 1_000_000_000_000L);
+    assertEquals(new BigInteger("500000000000500000000000"), range.sum());
+    assertEquals(1L, range.min());
+    assertEquals(1_000_000_000_000L, range.max());
+    assertEquals(500_000_000_000.5, range.average());
+
+    range = new LongRange(Long.MAX_VALUE, Long.MAX_VALUE - 4, 2L);
+    assertEquals(
+        BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TWO).subtract(BigInteger.TWO),
+        range.sum());
+    assertEquals(Long.MAX_VALUE - 2, range.min());
+  }
+
+  @Test
+  void shouldSubtractSparseRangesByGaps() {
+    long trillion = 1_000_000_000_000L;
+    var range = new LongRange(0, trillion);
+
+    var parts = range.subtract(new LongRange(0, trillion, trillion));
+    assertEquals(1, parts.size());
+    assertEquals(1L, parts.get(0).first());
+    assertEquals(trillion - 1, parts.get(0).last());
+
+    parts = range.subtract(new LongRange(0, trillion, 100_000_000L));
+    assertEquals(10_000, parts.size());
+    assertEquals(1L, parts.get(0).first());
+    assertEquals(99_999_999L, parts.get(0).last());
+    assertEquals(trillion - 1, parts.get(9_999).last());
+    assertEquals(trillion + 1 - 10_001, parts.stream().mapToLong(LongRange::longCount).sum());
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new LongRange(0, Long.MAX_VALUE).subtract(new LongRange(0, Long.MAX_VALUE, 1L << 31)));
+  }
+
+  @Test
+  void shouldIntersectRangesNearLimits() {
+    var range =
+        new LongRange(0L, Long.MAX_VALUE, 2L)
+            .intersect(new LongRange(Long.MAX_VALUE - 10, Long.MAX_VALUE, 3L));
+    assertEquals(List.of(Long.MAX_VALUE - 7, Long.MAX_VALUE - 1), range.stream().toList());
+    assertTrue(range.overlaps(new LongRange(Long.MAX_VALUE - 1, Long.MAX_VALUE)));
+    assertFalse(range.overlaps(new LongRange(Long.MIN_VALUE / 2, 0L)));
+  }
+
+  @Test
+  void shouldCutRangeIntoChunks() {
+    var chunks = new LongRange(Long.MAX_VALUE - 9, Long.MAX_VALUE).chunked(4);
+    assertEquals(3, chunks.size());
+    assertEquals(Long.MAX_VALUE - 1, chunks.get(2).first());
+    assertEquals(Long.MAX_VALUE, chunks.get(2).last());
+
+    var parts = new LongRange(0, 1L << 40).split(4);
+    assertEquals((1L << 38) + 1, parts.get(0).longCount());
+    assertEquals(1L << 40, parts.get(3).last());
+    assertThrows(IllegalArgumentException.class, () -> new LongRange(0, 1L << 40).chunked(1));
+  }
+
+  @Test
+  void shouldMaterializeIntoArraysAndBuffers() {
+    var range = new LongRange(Long.MAX_VALUE - 20, Long.MAX_VALUE, 3);
+    assertArrayEquals(range.longStream().toArray(), range.toLongArray());
+
+    long[] dst = new long[3];
+    new LongRange(5, 0, 2).fillInto(dst, 0);
+    assertArrayEquals(new long[] {5, 3, 1}, dst);
+
+    var buffer = ByteBuffer.allocateDirect(8 * 3).asLongBuffer();
+    new LongRange(1, 3).fillInto(buffer);
+    assertEquals(3, buffer.position());
+    assertEquals(3, buffer.get(2));
+  }
+
+  @Test
+  void shouldShuffleHugeRangeLazily() {
+    var range = new LongRange(0, Long.MAX_VALUE - 1);
+    var iterator = range.shuffledLongIterator(1);
+    var seen = new HashSet<Long>();
+    for (int i = 0; i < 1000; i++) {
+      long value = iterator.nextLong();
+      assertTrue(range.contains(value));
+      assertTrue(seen.add(value));
+    }
+
+    var small = new LongRange(-50, 50, 3);
+    assertEquals(
+        small.stream().sorted().toList(), small.shuffledStream(3).parallel().sorted().toList());
+  }
+
+  @Test
+  void shouldComputeContiguousShards() {
+    var range = new LongRange(0, 999_999_999_999L);
+    var shard = range.shard(3, 7);
+    assertEquals(range.split(7).get(3).first(), shard.first());
+    assertEquals(142_857_142_857L, shard.longCount());
+
+    long total = 0;
+    for (int i = 0; i < 7; i++) {
+      total += range.shard(i, 7).longCount();
+    }
+    assertEquals(range.longCount(), total);
+    assertThrows(IndexOutOfBoundsException.class, () -> range.shard(7, 7));
+    assertThrows(IllegalArgumentException.class, () -> range.shard(0, 0));
+  }
+
+  @Test
+  void shouldComputeStridedShards() {
+    var range = new LongRange(1, 10);
+    assertEquals(List.of(1L, 4L, 7L, 10L), range.stridedShard(0, 3).stream().toList());
+    assertEquals(List.of(2L, 5L, 8L), range.stridedShard(1, 3).stream().toList());
+    assertEquals(List.of(3L, 6L, 9L), range.stridedShard(2, 3).stream().toList());
+    assertTrue(new LongRange(1, 2).stridedShard(2, 3).isEmpty());
+    assertEquals(
+        List.of(20L, 14L, 8L, 2L), new LongRange(20, 0, 2).stridedShard(0, 3).stream().toList());
+  }
+
+  @Test
+  void shouldAssignBlocksWithConsistentHashing() {
+    var range = new LongRange(0, 99_999);
+    List<LongRange> all = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      for (var block : range.consistentShard(i, 5, 1000)) {
+        assertEquals(i, range.consistentShardOf(block.first(), 5, 1000));
+        assertEquals(i, range.consistentShardOf(block.last(), 5, 1000));
+        all.add(block);
+      }
+    }
+    assertEquals(100, all.size());
+    assertEquals(range.longCount(), all.stream().mapToLong(LongRange::longCount).sum());
+
+    int moved = 0;
+    for (long value = 0; value < 100_000; value += 1000) {
+      int before = range.consistentShardOf(value, 5, 1000);
+      int after = range.consistentShardOf(value, 6, 1000);
+      if (before != after) {
+        assertEquals(5, after);
+        moved++;
+      }
+    }
+    assertTrue(moved < 40);
+    assertEquals(-1, range.consistentShardOf(-1, 5, 1000));
+  }
+
+  @Test
+  void reversedStepAndUntilShouldCreateViews() {
+    var range = new LongRange(Long.MIN_VALUE, Long.MAX_VALUE, 4);
+    var reversed = range.reversed();
+    assertEquals(Long.MAX_VALUE - 3, reversed.first());
+    assertEquals(Long.MIN_VALUE, reversed.last());
+    assertEquals(3, reversed.until(Long.MAX_VALUE - 12).longCount());
+    assertEquals(2, range.step(Long.MAX_VALUE).longCount());
+    assertEquals(List.of(0L, 5L, 10L), new LongRange(0, 12).step(5).stream().toList());
+    assertEquals(List.of(0L, 1L), new LongRange(0, 12).until(2).stream().toList());
+    assertTrue(new LongRange(0, 12).until(Long.MIN_VALUE).isEmpty());
+  }
+
+  @Test
+  void derivedRangesShouldUseConstructorEndConvention() {
+    var reversed = new LongRange(Long.MIN_VALUE + 10, Long.MIN_VALUE + 19).reversed();
+    assertEquals(Long.MIN_VALUE + 9, reversed.end());
+    var rebuilt = new LongRange(reversed.start(), reversed.end());
+    assertEquals(reversed.stream().toList(), rebuilt.stream().toList());
+    assertEquals(
+        Long.MIN_VALUE, new LongRange(Long.MIN_VALUE, Long.MIN_VALUE + 5).reversed().end());
+  }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class RangeBitmapTest {
+
+  @Test
+  void shouldStoreRangesAndScatteredValues() {
+    var bitmap = RangeBitmap.of(new IntRange(-100_000, 200_000));
+    bitmap.add(1_000_000);
+    bitmap.add(1_000_002);
+    bitmap.add(-5_000_000);
+
+    assertEquals(300_004, bitmap.cardinality());
+    assertTrue(bitmap.contains(0));
+    assertTrue(bitmap.contains(-100_000));
+    assertTrue(bitmap.contains(1_000_002));
+    assertFalse(bitmap.contains(1_000_001));
+    assertFalse(bitmap.contains(200_001));
+    assertEquals(-5_000_000, bitmap.first());
+
+    var ranges = bitmap.asRanges();
+    assertEquals(4, ranges.size());
+    assertEquals(-100_000, ranges.get(1).first());
+    assertEquals(200_000, ranges.get(1).last());
+    assertThrows(IllegalArgumentException.class, () -> bitmap.addRange(new IntRange(0, 10, 2)));
+  }
+
+  @Test
+  void shouldRankAndSelect() {
+    var bitmap = RangeBitmap.of(new IntRange(10, 19), new IntRange(100_000, 100_009));
+    bitmap.add(Integer.MIN_VALUE);
+    bitmap.add(Integer.MAX_VALUE);
+    assertEquals(1, bitmap.rank(Integer.MIN_VALUE));
+    assertEquals(1, bitmap.rank(9));
+    assertEquals(6, bitmap.rank(14));
+    assertEquals(11, bitmap.rank(99_999));
+    assertEquals(22, bitmap.rank(Integer.MAX_VALUE));
+    assertEquals(Integer.MIN_VALUE, bitmap.select(0));
+    assertEquals(15, bitmap.select(6));
+    assertEquals(100_009, bitmap.select(20));
+    assertEquals(Integer.MAX_VALUE, bitmap.select(21));
+    assertThrows(IndexOutOfBoundsException.class, () -> bitmap.select(22));
+  }
+
+  @Test
+  void shouldMatchReferenceSetOperations() {
+    var random = new Random(42);
+    for (int round = 0; round < 20; round++) {
+      var a = new RangeBitmap();
+      var b = new RangeBitmap();
+      var expectedA = new BitSet();
+      var expectedB = new BitSet();
+      fill(random, a, expectedA);
+      fill(random, b, expectedB);
+
+      var and = (BitSet) expectedA.clone();
+      and.and(expectedB);
+      var or = (BitSet) expectedA.clone();
+      or.or(expectedB);
+      var andNot = (BitSet) expectedA.clone();
+      andNot.andNot(expectedB);
+
+      assertEquals(values(expectedA), values(a));
+      assertEquals(values(and), values(a.and(b)));
+      assertEquals(values(or), values(a.or(b)));
+      assertEquals(values(andNot), values(a.andNot(b)));
+      assertEquals(and.cardinality(), a.and(b).cardinality());
+
+      int probe = random.nextInt(300_000);
+      assertEquals(expectedA.get(0, probe + 1).cardinality(), a.rank(probe));
+    }
+  }
+
+  @Test
+  void shouldMergeSingleValuesIntoRuns() {
+    var bitmap = RangeBitmap.of(new IntRange(10, 20));
+    bitmap.addRange(new IntRange(30, 40));
+    bitmap.add(21);
+    bitmap.add(9);
+    bitmap.add(25);
+    assertEquals(3, bitmap.asRanges().size());
+    assertEquals(9, bitmap.asRanges().get(0).first());
+    assertEquals(21, bitmap.asRanges().get(0).last());
+    assertEquals(25, bitmap.asRanges().get(1).last());
+    for (int value = 22; value < 30; value++) {
+      bitmap.add(value);
+    }
+    assertEquals(1, bitmap.asRanges().size());
+    assertEquals(32, bitmap.cardinality());
+    for (int value = 1000; value < 3000; value += 2) {
+      bitmap.add(value);
+    }
+    assertEquals(1032, bitmap.cardinality());
+    assertEquals(1001, bitmap.asRanges().size());
+    assertTrue(bitmap.contains(2998));
+    assertFalse(bitmap.contains(2999));
+  }
+
+  @Test
+  void shouldNotShareStateWithCopies() {
+    var bitmap = RangeBitmap.of(new IntRange(1, 10));
+    var copy = bitmap.copy();
+    copy.add(20);
+    assertFalse(bitmap.contains(20));
+    assertTrue(new RangeBitmap().isEmpty());
+    assertTrue(bitmap.and(new RangeBitmap()).isEmpty());
+  }
+
+  private static void fill(Random random, RangeBitmap bitmap, BitSet expected) {
+    for (int i = 0; i < 10; i++) {
+      int from = random.nextInt(300_000);
+      int to = from + random.nextInt(random.nextBoolean() ? 50 : 20_000);
+      bitmap.add(from, to);
+      expected.set(from, to + 1);
+    }
+    for (int i = 0; i < 6000; i++) {
+      int value = random.nextInt(300_000);
+      bitmap.add(value);
+      expected.set(value);
+    }
+  }
+
+  private static List<Integer> values(BitSet bits) {
+    return bits.stream().boxed().toList();
+  }
+
+  private static List<Integer> values(RangeBitmap bitmap) {
+    List<Integer> values = new ArrayList<>();
+    for (var range : bitmap.asRanges()) {
+      range.forEachInt(values::add);
+    }
+    return values;
+  }
+
+  @Test
+  void shouldSwitchToBitmapForDenseChunks() {
+    var bitmap = new RangeBitmap();
+    for (int value = 0; value < 65_536; value += 3) {
+      bitmap.add(value);
+    }
+    assertEquals(21_846, bitmap.cardinality());
+    assertTrue(bitmap.contains(65_535));
+    assertFalse(bitmap.contains(65_534));
+    assertEquals(65_535, bitmap.select(21_845));
+    assertEquals(21_846, bitmap.asRanges().size());
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class RangeCodecTest {
+
+  @Test
+  void shouldEncodeLargeRangeCompactly() {
+    var range = new IntRange(1, 10_000_000);
+    var buffer = ByteBuffer.allocate(16);
+    RangeCodec.encode(range, buffer);
+    assertTrue(buffer.position() < 16);
+    assertEquals(buffer.position(), RangeCodec.encodedSize(range));
+
+    var decoded = (IntRange) RangeCodec.decode(buffer.flip());
+    assertEquals(range.longCount(), decoded.longCount());
+    assertEquals(1, decoded.first());
+    assertEquals(10_000_000, decoded.last());
+  }
+
+  @Test
+  void shouldRoundTripAllRangeTypes() {
+    List<Range<?>> ranges =
+        List.of(
+            new ByteRange((byte) 100, (byte) -100, (byte) 7),
+            new ShortRange(Short.MIN_VALUE, Short.MAX_VALUE, (short) 1000),
+            new IntRange(Integer.MAX_VALUE, Integer.MIN_VALUE, 3),
+            new LongRange(Long.MIN_VALUE, Long.MAX_VALUE, 3),
+            new CharRange('a', 'z', (char) 5),
+            new DoubleRange(0.0, 1.0, 0.1).chunked(4).get(1),
+            new FloatRange(10f, 0f, 0.3f),
+            IntRange.EMPTY,
+            new IntRange(20, 0, 2).subtract(new IntRange(8, 12)).get(1));
+    for (var range : ranges) {
+      var buffer = ByteBuffer.allocate(64);
+      RangeCodec.encode(range, buffer);
+      var decoded = RangeCodec.decode(buffer.flip());
+      assertEquals(range.getClass(), decoded.getClass());
+      assertEquals(range.longCount(), decoded.longCount());
+      assertEquals(range.stream().limit(1000).toList(), decoded.stream().limit(1000).toList());
+      assertFalse(buffer.hasRemaining());
+    }
+  }
+
+  @Test
+  void shouldPreserveStartEndAndStep() {
+    List<Range<?>> ranges =
+        List.of(
+            new IntRange(1, 10, 4),
+            new IntRange(10, 1),
+            new IntRange(1, 10).reversed(),
+            new IntRange(Integer.MIN_VALUE, Integer.MIN_VALUE + 5).reversed(),
+            new LongRange(Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE),
+            new ByteRange((byte) 100, (byte) -100, (byte) 7),
+            new CharRange('z', 'a', (char) 5),
+            new DoubleRange(0.0, 1.0, 0.3),
+            new FloatRange(10f, 0f, 0.3f));
+    for (var range : ranges) {
+      var buffer = ByteBuffer.allocate(64);
+      RangeCodec.encode(range, buffer);
+      assertEquals(buffer.position(), RangeCodec.encodedSize(range));
+      var decoded = RangeCodec.decode(buffer.flip());
+      assertEquals(range.start(), decoded.start());
+      assertEquals(range.end(), decoded.end());
+      assertEquals(range.step, decoded.step);
+      assertEquals(range.stream().toList(), decoded.stream().toList());
+    }
+    var decoded = RangeCodec.decode(encoded(new IntRange(1, 10, 4)));
+    assertEquals(10, decoded.end());
+  }
+
+  @Test
+  void shouldEncodeSortedListsWithDeltas() throws IOException {
+    var set = new LongRangeSet();
+    for (long i = 0; i < 100; i++) {
+      set.add(1_000_000_000_000L + i * 10, 1_000_000_000_000L + i * 10 + 4);
+    }
+    var ranges = set.asRanges();
+    var bytes = new ByteArrayOutputStream();
+    RangeCodec.encodeAll(ranges, new DataOutputStream(bytes));
+    assertTrue(bytes.size() < 100 * 6);
+
+    var decoded =
+        RangeCodec.decodeAll(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    assertEquals(ranges.size(), decoded.size());
+    for (int i = 0; i < ranges.size(); i++) {
+      assertEquals(ranges.get(i).stream().toList(), decoded.get(i).stream().toList());
+    }
+  }
+
+  @Test
+  void shouldRejectInvalidEncoding() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> RangeCodec.decode(ByteBuffer.wrap(new byte[] {42, 1, 0, 2})));
+    // a byte range with 200 elements and step 1 does not fit in a byte
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> RangeCodec.decode(ByteBuffer.wrap(new byte[] {1, (byte) 200, 1, 0, 2})));
+  }
+
+  private static ByteBuffer encoded(Range<?> range) {
+    var buffer = ByteBuffer.allocate(RangeCodec.encodedSize(range));
+    RangeCodec.encode(range, buffer);
+    return buffer.flip();
+  }
+}
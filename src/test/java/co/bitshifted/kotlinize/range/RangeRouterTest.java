@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2025, Bitshift <https://bitshifted.co>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package co.bitshifted.kotlinize.range;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class RangeRouterTest {
+
+  @Test
+  void shouldRouteKeysToShards() {
+    var router =
+        RangeRouter.<String, Integer>builder()
+            .add(OpenEndRange.of("m", "t"), 2)
+            .add(OpenEndRange.of("a", "g"), 0)
+            .add(OpenEndRange.of("g", "m"), 1)
+            .add(ClosedRange.of("t", "zzz"), 3)
+            .add(OpenEndRange.of("x", "x"), 9)
+            .build();
+    assertEquals(4, router.size());
+    assertEquals(Optional.of(0), router.route("apple"));
+    assertEquals(Optional.of(1), router.route("g"));
+    assertEquals(Optional.of(2), router.route("monkey"));
+    assertEquals(Optional.of(3), router.route("zzz"));
+    assertEquals(Optional.empty(), router.route("zzzz"));
+    assertEquals(Optional.empty(), router.route("A"));
+    assertEquals(-1, router.routeOrDefault("0", -1));
+  }
+
+  @Test
+  void shouldRejectOverlappingRanges() {
+    var builder =
+        RangeRouter.<Integer, String>builder()
+            .add(ClosedRange.of(1, 10), "a")
+            .add(ClosedRange.of(10, 20), "b");
+    var error = assertThrows(IllegalArgumentException.class, builder::build);
+    assertEquals("Ranges overlap: 1..10 and 10..20", error.getMessage());
+    assertEquals(
+        2,
+        RangeRouter.<Integer, String>builder()
+            .add(OpenEndRange.of(1, 10), "a")
+            .add(ClosedRange.of(10, 20), "b")
+            .build()
+            .size());
+  }
+
+  @Test
+  void shouldUseRouterComparator() {
+    var router =
+        RangeRouter.<String, String>builder(String.CASE_INSENSITIVE_ORDER)
+            .add(ClosedRange.of("a", "m", String.CASE_INSENSITIVE_ORDER), "first")
+            .add(ClosedRange.of("N", "Z", String.CASE_INSENSITIVE_ORDER), "second")
+            .build();
+    assertEquals(Optional.of("first"), router.route("Kiwi"));
+    assertEquals(Optional.of("second"), router.route("orange"));
+  }
+}
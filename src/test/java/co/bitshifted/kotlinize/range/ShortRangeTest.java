@@ -96,4 +96,35 @@ public class ShortRangeTest {
     var range = new ShortRange((short) 1, (short) 5);
     assertEquals(5, range.distinct().size());
   }
+
+  @Test
+  void shouldStreamElementsInParallel() {
+    var range = new ShortRange((short) 1, (short) 100);
+    assertEquals(5050, range.parallelStream().mapToInt(Short::intValue).sum());
+    assertEquals(5050, range.parallelIntStream().sum());
+  }
+
+  @Test
+  void shouldMaterializeIntoArray() {
+    assertArrayEquals(
+        new short[] {10, 7, 4}, new ShortRange((short) 10, (short) 1, (short) 3).toShortArray());
+  }
+
+  @Test
+  void reversedStepAndUntilShouldCreateViews() {
+    var range = new ShortRange((short) 1, (short) 10);
+    assertArrayEquals(new short[] {10, 9, 8, 7, 6, 5, 4, 3, 2, 1}, range.reversed().toShortArray());
+    assertEquals((short) 0, range.reversed().end());
+    assertArrayEquals(new short[] {1, 4, 7, 10}, range.step(3).toShortArray());
+    assertArrayEquals(new short[] {10, 7, 4, 1}, range.step(3).reversed().toShortArray());
+    assertArrayEquals(new short[] {1, 2, 3}, range.until((short) 4).toShortArray());
+    assertArrayEquals(new short[] {10, 9}, range.reversed().until((short) 8).toShortArray());
+    assertTrue(range.until((short) 1).isEmpty());
+
+    var full = new ShortRange(Short.MIN_VALUE, Short.MAX_VALUE);
+    assertArrayEquals(new short[] {Short.MIN_VALUE}, full.step(Integer.MAX_VALUE).toShortArray());
+    assertArrayEquals(new short[] {Short.MAX_VALUE}, full.reversed().step(70_000).toShortArray());
+    assertThrows(ArithmeticException.class, () -> full.step(Short.MAX_VALUE + 1));
+    assertThrows(IllegalArgumentException.class, () -> range.step(0));
+  }
 }